@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
+import ru.otus.hw.config.LocaleConfig;
 import ru.otus.hw.config.TestFileNameProvider;
 import ru.otus.hw.dao.dto.QuestionDto;
 import ru.otus.hw.domain.Question;
@@ -22,8 +23,12 @@ public class CsvQuestionDao implements QuestionDao {
 
     private final TestFileNameProvider fileNameProvider;
 
+    private final LocaleConfig localeConfig;
+
     private final ResourceLoader resourceLoader;
 
+    private final QuestionBankCache questionBankCache;
+
     @Override
     public List<Question> findAll() {
         String fileName = fileNameProvider.getTestFileName();
@@ -31,6 +36,11 @@ public class CsvQuestionDao implements QuestionDao {
         if (!r.exists()) {
             throw new QuestionReadException("Resource not found: " + fileName);
         }
+        var key = new QuestionBankKey(fileName, localeConfig.getLocale());
+        return questionBankCache.getOrLoad(key, ResourceFingerprint.of(r), () -> readQuestions(r, fileName));
+    }
+
+    private List<Question> readQuestions(Resource r, String fileName) {
         try (Reader reader = new InputStreamReader(r.getInputStream(), StandardCharsets.UTF_8)) {
             return mapToDomain(parseCsv(reader));
         } catch (IOException e) {
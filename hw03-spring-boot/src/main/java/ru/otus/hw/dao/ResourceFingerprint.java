@@ -0,0 +1,41 @@
+package ru.otus.hw.dao;
+
+import org.springframework.core.io.Resource;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+public record ResourceFingerprint(long lastModified, long contentHash) {
+
+    private static final long UNKNOWN = -1L;
+
+    public static ResourceFingerprint of(Resource resource) {
+        long lastModified = lastModifiedOf(resource);
+        if (lastModified > 0) {
+            return new ResourceFingerprint(lastModified, UNKNOWN);
+        }
+        return new ResourceFingerprint(UNKNOWN, contentHashOf(resource));
+    }
+
+    private static long lastModifiedOf(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return UNKNOWN;
+        }
+    }
+
+    private static long contentHashOf(Resource resource) {
+        var checksum = new CRC32();
+        try (InputStream in = new CheckedInputStream(resource.getInputStream(), checksum)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new QuestionReadException("Failed to hash " + resource.getDescription(), e);
+        }
+        return checksum.getValue();
+    }
+}
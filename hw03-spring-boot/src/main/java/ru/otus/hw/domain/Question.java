@@ -3,4 +3,8 @@ package ru.otus.hw.domain;
 import java.util.List;
 
 public record Question(String text, List<Answer> answers) {
+
+    public Question {
+        answers = List.copyOf(answers);
+    }
 }
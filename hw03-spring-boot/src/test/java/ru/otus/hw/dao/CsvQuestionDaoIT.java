@@ -3,24 +3,32 @@ package ru.otus.hw.dao;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.ResourceLoader;
+import ru.otus.hw.config.LocaleConfig;
 import ru.otus.hw.config.TestFileNameProvider;
 import ru.otus.hw.domain.Answer;
 import ru.otus.hw.domain.Question;
 import ru.otus.hw.exceptions.QuestionReadException;
 
 import java.util.List;
+import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class CsvQuestionDaoIT {
 
     private CsvQuestionDao newDao(String fileName) {
+        return newDao(fileName, new QuestionBankCache());
+    }
+
+    private CsvQuestionDao newDao(String fileName, QuestionBankCache cache) {
         ResourceLoader rl = new DefaultResourceLoader();
         TestFileNameProvider nameProvider = () -> fileName;
-        return new CsvQuestionDao(nameProvider, rl);
+        LocaleConfig localeConfig = () -> Locale.US;
+        return new CsvQuestionDao(nameProvider, localeConfig, rl, cache);
     }
 
     @Test
@@ -57,4 +65,39 @@ class CsvQuestionDaoIT {
         QuestionReadException ex = assertThrows(QuestionReadException.class, dao::findAll);
         assertTrue(ex.getMessage().contains("Resource not found"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void findAll_returnsCachedBankOnRepeatedCalls() {
+        QuestionBankCache cache = new QuestionBankCache();
+        CsvQuestionDao dao = newDao("it-questions.csv", cache);
+
+        List<Question> first = dao.findAll();
+        List<Question> second = dao.findAll();
+
+        assertSame(first, second);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void findAll_reloadsBankAfterInvalidation() {
+        QuestionBankCache cache = new QuestionBankCache();
+        CsvQuestionDao dao = newDao("it-questions.csv", cache);
+
+        List<Question> first = dao.findAll();
+        cache.invalidateAll();
+        List<Question> second = dao.findAll();
+
+        assertEquals(first, second);
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    void findAll_returnsImmutableQuestionBank() {
+        List<Question> questions = newDao("it-questions.csv").findAll();
+
+        assertThrows(UnsupportedOperationException.class, () -> questions.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> questions.get(0).answers().remove(0));
+    }
+}
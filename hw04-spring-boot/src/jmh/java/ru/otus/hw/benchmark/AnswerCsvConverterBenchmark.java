@@ -0,0 +1,37 @@
+package ru.otus.hw.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.otus.hw.benchmark.opencsv.AnswerCsvConverter;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AnswerCsvConverterBenchmark {
+
+    @Param({
+            "Absolutely not%false",
+            "ClassLoader#geResourceAsStream or ClassPathResource#getInputStream%true"
+    })
+    private String value;
+
+    private final AnswerCsvConverter converter = new AnswerCsvConverter();
+
+    @Benchmark
+    public Object convertToRead() {
+        return converter.convertToRead(value);
+    }
+}
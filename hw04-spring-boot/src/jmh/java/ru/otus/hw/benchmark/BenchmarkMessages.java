@@ -0,0 +1,39 @@
+package ru.otus.hw.benchmark;
+
+import org.springframework.context.support.ResourceBundleMessageSource;
+import ru.otus.hw.config.LocaleConfig;
+import ru.otus.hw.service.LocalizedMessageCatalog;
+import ru.otus.hw.service.LocalizedMessagesService;
+import ru.otus.hw.service.LocalizedMessagesServiceImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+final class BenchmarkMessages {
+
+    private static final String BASENAME = "messages";
+
+    private BenchmarkMessages() {
+    }
+
+    static LocalizedMessagesService messagesService(Locale locale) {
+        var messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename(BASENAME);
+        messageSource.setDefaultEncoding(StandardCharsets.UTF_8.name());
+        messageSource.setFallbackToSystemLocale(false);
+        LocaleConfig localeConfig = new LocaleConfig() {
+            @Override
+            public Locale getLocale() {
+                return locale;
+            }
+
+            @Override
+            public List<Locale> getSupportedLocales() {
+                return List.of(locale);
+            }
+        };
+        var catalog = new LocalizedMessageCatalog(messageSource, localeConfig, BASENAME);
+        return new LocalizedMessagesServiceImpl(localeConfig, messageSource, catalog);
+    }
+}
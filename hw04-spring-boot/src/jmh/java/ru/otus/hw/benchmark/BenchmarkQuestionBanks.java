@@ -0,0 +1,38 @@
+package ru.otus.hw.benchmark;
+
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+final class BenchmarkQuestionBanks {
+
+    private static final int ANSWERS_PER_QUESTION = 4;
+
+    private BenchmarkQuestionBanks() {
+    }
+
+    static String csv(int questionsCount) {
+        var csv = new StringBuilder("# generated question bank\n");
+        for (int i = 0; i < questionsCount; i++) {
+            csv.append("Question #").append(i).append(" about \"quotes\" and Java?;");
+            for (int j = 0; j < ANSWERS_PER_QUESTION; j++) {
+                if (j > 0) {
+                    csv.append('|');
+                }
+                csv.append("Answer ").append(j).append(" to ").append(i).append('%').append(j == 0);
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    static List<Question> questions(int questionsCount) {
+        return IntStream.range(0, questionsCount)
+                .mapToObj(i -> new Question("Question #" + i, IntStream.range(0, ANSWERS_PER_QUESTION)
+                        .mapToObj(j -> new Answer("Answer " + j + " to " + i, j == 0))
+                        .toList()))
+                .toList();
+    }
+}
@@ -0,0 +1,88 @@
+package ru.otus.hw.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import ru.otus.hw.dao.CsvQuestionDao;
+import ru.otus.hw.dao.QuestionBankCache;
+import ru.otus.hw.domain.Question;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CsvQuestionDaoBenchmark {
+
+    private static final String FILE_NAME = "questions.csv";
+
+    @Param({"10", "1000", "100000"})
+    private int bankSize;
+
+    private Path bankFile;
+
+    private DefaultResourceLoader resourceLoader;
+
+    private CsvQuestionDao cachedDao;
+
+    @Setup
+    public void setUp() throws IOException {
+        bankFile = Files.createTempFile("question-bank", ".csv");
+        Files.writeString(bankFile, BenchmarkQuestionBanks.csv(bankSize), StandardCharsets.UTF_8);
+        resourceLoader = new DefaultResourceLoader() {
+            @Override
+            public Resource getResource(String location) {
+                return new FileSystemResource(bankFile);
+            }
+        };
+        cachedDao = newDao(new QuestionBankCache());
+        cachedDao.findAll();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(bankFile);
+    }
+
+    @Benchmark
+    public List<Question> findAllCold() {
+        return newDao(new QuestionBankCache()).findAll();
+    }
+
+    @Benchmark
+    public List<Question> findAllCached() {
+        return cachedDao.findAll();
+    }
+
+    @Benchmark
+    public long streamAll() {
+        try (var questions = cachedDao.streamAll()) {
+            return questions.count();
+        }
+    }
+
+    private CsvQuestionDao newDao(QuestionBankCache questionBankCache) {
+        return new CsvQuestionDao(() -> FILE_NAME, () -> Locale.US, resourceLoader, questionBankCache);
+    }
+}
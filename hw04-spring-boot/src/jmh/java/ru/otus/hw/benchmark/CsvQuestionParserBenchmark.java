@@ -0,0 +1,61 @@
+package ru.otus.hw.benchmark;
+
+import com.opencsv.bean.CsvToBeanBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.otus.hw.benchmark.opencsv.QuestionDto;
+import ru.otus.hw.dao.CsvQuestionParser;
+import ru.otus.hw.domain.Question;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CsvQuestionParserBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int bankSize;
+
+    private String csv;
+
+    private final CsvQuestionParser parser = new CsvQuestionParser();
+
+    @Setup
+    public void setUp() {
+        csv = BenchmarkQuestionBanks.csv(bankSize);
+    }
+
+    @Benchmark
+    public List<Question> handWrittenParser() {
+        return parser.parse(new BufferedReader(new StringReader(csv))).toList();
+    }
+
+    @Benchmark
+    public List<Question> openCsvBinding() {
+        return new CsvToBeanBuilder<QuestionDto>(new StringReader(csv))
+                .withType(QuestionDto.class)
+                .withSkipLines(1)
+                .withSeparator(';')
+                .build()
+                .parse()
+                .stream()
+                .map(QuestionDto::toDomainObject)
+                .toList();
+    }
+}
@@ -0,0 +1,46 @@
+package ru.otus.hw.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.otus.hw.service.LocalizedMessagesService;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LocalizedMessagesServiceBenchmark {
+
+    @Param({"en-US", "ru-RU"})
+    private String localeTag;
+
+    private LocalizedMessagesService messagesService;
+
+    @Setup
+    public void setUp() {
+        messagesService = BenchmarkMessages.messagesService(Locale.forLanguageTag(localeTag));
+    }
+
+    @Benchmark
+    public String getMessageWithoutArguments() {
+        return messagesService.getMessage("TestService.enter.option");
+    }
+
+    @Benchmark
+    public String getMessageWithArguments() {
+        return messagesService.getMessage("ResultService.student", "John Doe");
+    }
+}
@@ -0,0 +1,81 @@
+package ru.otus.hw.benchmark;
+
+import ru.otus.hw.service.IOService;
+
+import java.util.Formatter;
+
+class ScriptedIOService implements IOService {
+
+    private static final int OUTPUT_LIMIT = 8192;
+
+    private final StringBuilder output = new StringBuilder();
+
+    private final Formatter formatter = new Formatter(output);
+
+    private final String[] lines;
+
+    private final int[] choices;
+
+    private int nextLine;
+
+    private int nextChoice;
+
+    ScriptedIOService(String[] lines, int[] choices) {
+        this.lines = lines;
+        this.choices = choices;
+    }
+
+    @Override
+    public void printLine(String s) {
+        output.append(s).append('\n');
+        trimOutput();
+    }
+
+    @Override
+    public void printFormattedLine(String s, Object... args) {
+        formatter.format(s, args);
+        output.append('\n');
+        trimOutput();
+    }
+
+    @Override
+    public void flush() {
+        output.setLength(0);
+    }
+
+    @Override
+    public String readString() {
+        var line = lines[nextLine];
+        nextLine = (nextLine + 1) % lines.length;
+        return line;
+    }
+
+    @Override
+    public String readStringWithPrompt(String prompt) {
+        printLine(prompt);
+        return readString();
+    }
+
+    @Override
+    public int readIntForRange(int min, int max, String errorMessage) {
+        int choice = choices[nextChoice];
+        nextChoice = (nextChoice + 1) % choices.length;
+        return min + Math.floorMod(choice - min, max - min + 1);
+    }
+
+    @Override
+    public int readIntForRangeWithPrompt(int min, int max, String prompt, String errorMessage) {
+        printLine(prompt);
+        return readIntForRange(min, max, errorMessage);
+    }
+
+    int outputLength() {
+        return output.length();
+    }
+
+    private void trimOutput() {
+        if (output.length() > OUTPUT_LIMIT) {
+            output.setLength(0);
+        }
+    }
+}
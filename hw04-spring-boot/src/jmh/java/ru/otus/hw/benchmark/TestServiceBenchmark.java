@@ -0,0 +1,59 @@
+package ru.otus.hw.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.otus.hw.domain.Student;
+import ru.otus.hw.domain.TestResult;
+import ru.otus.hw.service.LocalizedIOServiceImpl;
+import ru.otus.hw.service.QuestionSampler;
+import ru.otus.hw.service.TestService;
+import ru.otus.hw.service.TestServiceImpl;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TestServiceBenchmark {
+
+    private static final int[] CHOICES = {1, 2, 3, 4, 1, 1, 2};
+
+    @Param({"5", "50"})
+    private int questionsCount;
+
+    private final Student student = new Student("John", "Doe");
+
+    private ScriptedIOService ioService;
+
+    private TestService testService;
+
+    @Setup
+    public void setUp() {
+        var questions = BenchmarkQuestionBanks.questions(questionsCount);
+        ioService = new ScriptedIOService(new String[] {"John", "Doe"}, CHOICES);
+        var localizedIOService = new LocalizedIOServiceImpl(
+                BenchmarkMessages.messagesService(Locale.US), ioService);
+        testService = new TestServiceImpl(localizedIOService, () -> questions, () -> 0, new QuestionSampler());
+    }
+
+    @Benchmark
+    public TestResult executeTestFor(Blackhole blackhole) {
+        var testResult = testService.executeTestFor(student);
+        blackhole.consume(ioService.outputLength());
+        return testResult;
+    }
+}
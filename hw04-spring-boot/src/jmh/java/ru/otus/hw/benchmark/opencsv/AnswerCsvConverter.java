@@ -1,4 +1,4 @@
-package ru.otus.hw.dao.dto;
+package ru.otus.hw.benchmark.opencsv;
 
 import com.opencsv.bean.AbstractCsvConverter;
 import ru.otus.hw.domain.Answer;
@@ -4,9 +4,10 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import ru.otus.hw.config.AppProperties;
+import ru.otus.hw.config.ExamServerProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(AppProperties.class)
+@EnableConfigurationProperties({AppProperties.class, ExamServerProperties.class})
 public class Application {
     public static void main(String[] args) {
         SpringApplication.run(Application.class, args);
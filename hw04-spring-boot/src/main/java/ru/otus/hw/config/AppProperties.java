@@ -4,21 +4,35 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
 @Setter
 @ConfigurationProperties(prefix = "test")
-public class AppProperties implements TestConfig, TestFileNameProvider, LocaleConfig {
+public class AppProperties implements TestConfig, TestFileNameProvider, LocaleConfig, ResultsLogConfig {
 
     @Getter
     private int rightAnswersCountToPass;
 
+    @Getter
+    private int questionsSampleSize;
+
+    @Getter
+    private boolean sampleStratifiedByTopic;
+
     @Getter
     private Locale locale;
 
     private Map<String, String> fileNameByLocaleTag;
 
+    @Getter
+    private QuestionBankFormat questionBankFormat = QuestionBankFormat.CSV;
+
+    @Getter
+    private String resultsLogFile;
+
     public void setLocale(String locale) {
         this.locale = Locale.forLanguageTag(locale);
     }
@@ -27,4 +41,14 @@ public class AppProperties implements TestConfig, TestFileNameProvider, LocaleCo
     public String getTestFileName() {
         return fileNameByLocaleTag.get(locale.toLanguageTag());
     }
+
+    @Override
+    public List<Locale> getSupportedLocales() {
+        var locales = new LinkedHashSet<Locale>();
+        locales.add(locale);
+        if (fileNameByLocaleTag != null) {
+            fileNameByLocaleTag.keySet().forEach(tag -> locales.add(Locale.forLanguageTag(tag)));
+        }
+        return List.copyOf(locales);
+    }
 }
@@ -0,0 +1,21 @@
+package ru.otus.hw.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.exam-server")
+public class ExamServerProperties {
+
+    private boolean enabled;
+
+    private String host = "127.0.0.1";
+
+    private int port = 5555;
+
+    private int maxSessions = 200;
+
+    private int queueCapacity = 100;
+}
@@ -1,7 +1,12 @@
 package ru.otus.hw.config;
 
+import java.util.List;
 import java.util.Locale;
 
 public interface LocaleConfig {
     Locale getLocale();
+
+    default List<Locale> getSupportedLocales() {
+        return List.of(getLocale());
+    }
 }
@@ -0,0 +1,5 @@
+package ru.otus.hw.config;
+
+public interface ResultsLogConfig {
+    String getResultsLogFile();
+}
@@ -2,4 +2,12 @@ package ru.otus.hw.config;
 
 public interface TestConfig {
     int getRightAnswersCountToPass();
+
+    default int getQuestionsSampleSize() {
+        return 0;
+    }
+
+    default boolean isSampleStratifiedByTopic() {
+        return false;
+    }
 }
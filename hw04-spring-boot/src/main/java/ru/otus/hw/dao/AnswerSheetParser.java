@@ -0,0 +1,66 @@
+package ru.otus.hw.dao;
+
+import ru.otus.hw.domain.AnswerSheet;
+import ru.otus.hw.domain.Student;
+import ru.otus.hw.exceptions.AnswerSheetReadException;
+
+public class AnswerSheetParser {
+
+    private static final char COLUMN_SEPARATOR = ';';
+
+    private static final char CHOICE_SEPARATOR = ',';
+
+    private static final char COMMENT = '#';
+
+    private static final int[] NO_CHOICES = new int[0];
+
+    public boolean isSkipped(String line) {
+        return line.isBlank() || line.charAt(0) == COMMENT;
+    }
+
+    public AnswerSheet parseLine(String line) {
+        int firstNameEnd = line.indexOf(COLUMN_SEPARATOR);
+        int lastNameEnd = firstNameEnd < 0 ? -1 : line.indexOf(COLUMN_SEPARATOR, firstNameEnd + 1);
+        if (lastNameEnd < 0) {
+            throw new AnswerSheetReadException("Expected 'firstName;lastName;choices' but got: " + line);
+        }
+        var student = new Student(line.substring(0, firstNameEnd), line.substring(firstNameEnd + 1, lastNameEnd));
+        return new AnswerSheet(student, parseChoices(line, lastNameEnd + 1));
+    }
+
+    private int[] parseChoices(String line, int start) {
+        if (start >= line.length()) {
+            return NO_CHOICES;
+        }
+        int[] choices = new int[countChoices(line, start)];
+        int begin = start;
+        for (int i = 0; i < choices.length; i++) {
+            int end = line.indexOf(CHOICE_SEPARATOR, begin);
+            if (end < 0) {
+                end = line.length();
+            }
+            choices[i] = parseChoice(line, begin, end);
+            begin = end + 1;
+        }
+        return choices;
+    }
+
+    private int countChoices(String line, int start) {
+        int count = 1;
+        for (int i = start; i < line.length(); i++) {
+            if (line.charAt(i) == CHOICE_SEPARATOR) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int parseChoice(String line, int begin, int end) {
+        try {
+            return Integer.parseInt(line, begin, end, 10);
+        } catch (NumberFormatException e) {
+            throw new AnswerSheetReadException("Invalid answer number '%s' in: %s"
+                    .formatted(line.substring(begin, end), line), e);
+        }
+    }
+}
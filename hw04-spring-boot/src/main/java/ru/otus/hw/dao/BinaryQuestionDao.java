@@ -0,0 +1,56 @@
+package ru.otus.hw.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import ru.otus.hw.config.LocaleConfig;
+import ru.otus.hw.config.TestFileNameProvider;
+import ru.otus.hw.dao.binary.BinaryQuestionBank;
+import ru.otus.hw.dao.binary.BinaryQuestionBankFormat;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "test.question-bank-format", havingValue = "binary")
+public class BinaryQuestionDao implements QuestionDao {
+
+    private final TestFileNameProvider fileNameProvider;
+
+    private final LocaleConfig localeConfig;
+
+    private final ResourceLoader resourceLoader;
+
+    private final QuestionBankCache questionBankCache;
+
+    @Override
+    public List<Question> findAll() {
+        String fileName = BinaryQuestionBankFormat.fileNameFor(fileNameProvider.getTestFileName());
+        Resource r = resourceLoader.getResource("classpath:" + fileName);
+        if (!r.exists()) {
+            throw new QuestionReadException("Resource not found: " + fileName);
+        }
+        var key = new QuestionBankKey(fileName, localeConfig.getLocale());
+        return questionBankCache.getOrLoad(key, ResourceFingerprint.of(r), () -> loadBank(r, fileName));
+    }
+
+    private BinaryQuestionBank loadBank(Resource r, String fileName) {
+        try {
+            if (r.isFile()) {
+                return BinaryQuestionBank.map(r.getFile().toPath());
+            }
+            try (InputStream in = r.getInputStream()) {
+                return new BinaryQuestionBank(ByteBuffer.wrap(in.readAllBytes()));
+            }
+        } catch (IOException e) {
+            throw new QuestionReadException("Failed to read " + fileName, e);
+        }
+    }
+}
@@ -1,59 +1,83 @@
 package ru.otus.hw.dao;
 
-import com.opencsv.bean.CsvToBeanBuilder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
+import ru.otus.hw.config.LocaleConfig;
 import ru.otus.hw.config.TestFileNameProvider;
-import ru.otus.hw.dao.dto.QuestionDto;
 import ru.otus.hw.domain.Question;
 import ru.otus.hw.exceptions.QuestionReadException;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Component
+@ConditionalOnProperty(name = "test.question-bank-format", havingValue = "csv", matchIfMissing = true)
 public class CsvQuestionDao implements QuestionDao {
 
     private final TestFileNameProvider fileNameProvider;
 
+    private final LocaleConfig localeConfig;
+
     private final ResourceLoader resourceLoader;
 
+    private final QuestionBankCache questionBankCache;
+
+    private final CsvQuestionParser questionParser = new CsvQuestionParser();
+
     @Override
     public List<Question> findAll() {
         String fileName = fileNameProvider.getTestFileName();
+        Resource r = getExistingResource(fileName);
+        var key = new QuestionBankKey(fileName, localeConfig.getLocale());
+        return questionBankCache.getOrLoad(key, ResourceFingerprint.of(r), () -> readQuestions(r, fileName));
+    }
+
+    @Override
+    public Stream<Question> streamAll() {
+        String fileName = fileNameProvider.getTestFileName();
+        return openQuestionStream(getExistingResource(fileName), fileName);
+    }
+
+    private Resource getExistingResource(String fileName) {
         Resource r = resourceLoader.getResource("classpath:" + fileName);
         if (!r.exists()) {
             throw new QuestionReadException("Resource not found: " + fileName);
         }
-        try (Reader reader = new InputStreamReader(r.getInputStream(), StandardCharsets.UTF_8)) {
-            return mapToDomain(parseCsv(reader));
-        } catch (IOException e) {
+        return r;
+    }
+
+    private List<Question> readQuestions(Resource r, String fileName) {
+        try (Stream<Question> questions = openQuestionStream(r, fileName)) {
+            return questions.toList();
+        } catch (UncheckedIOException e) {
             throw new QuestionReadException("Failed to read " + fileName, e);
         }
     }
 
-    private List<QuestionDto> parseCsv(Reader reader) {
-        try (reader) {
-            return new CsvToBeanBuilder<QuestionDto>(reader)
-                    .withType(QuestionDto.class)
-                    .withSkipLines(1)
-                    .withSeparator(';')
-                    .build()
-                    .parse();
-        } catch (Exception e) {
-            throw new QuestionReadException("Failed to read questions", e);
+    private Stream<Question> openQuestionStream(Resource r, String fileName) {
+        BufferedReader reader;
+        try {
+            reader = new BufferedReader(new InputStreamReader(r.getInputStream(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new QuestionReadException("Failed to read " + fileName, e);
         }
+        return questionParser.parse(reader).onClose(() -> close(reader, fileName));
     }
 
-    private List<Question> mapToDomain(List<QuestionDto> dtos) {
-        return dtos.stream()
-                .map(QuestionDto::toDomainObject)
-                .toList();
+    private void close(BufferedReader reader, String fileName) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new QuestionReadException("Failed to close " + fileName, e);
+        }
     }
 }
@@ -0,0 +1,97 @@
+package ru.otus.hw.dao;
+
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.BufferedReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class CsvQuestionParser {
+
+    private static final int SKIP_LINES = 1;
+
+    private static final char COLUMN_SEPARATOR = ';';
+
+    private static final char ANSWER_SEPARATOR = '|';
+
+    private static final char CORRECTNESS_SEPARATOR = '%';
+
+    private static final char QUOTE = '"';
+
+    private static final int TEXT_COLUMN = 0;
+
+    private static final int ANSWERS_COLUMN = 1;
+
+    private static final int TOPIC_COLUMN = 2;
+
+    public Stream<Question> parse(BufferedReader reader) {
+        return reader.lines()
+                .skip(SKIP_LINES)
+                .filter(line -> !line.isBlank())
+                .map(this::parseLine);
+    }
+
+    public Question parseLine(String line) {
+        var columns = splitColumns(line);
+        if (columns.size() <= ANSWERS_COLUMN) {
+            throw new QuestionReadException("Answers column is missing in line: " + line);
+        }
+        var topic = columns.size() > TOPIC_COLUMN && !columns.get(TOPIC_COLUMN).isBlank()
+                ? columns.get(TOPIC_COLUMN).strip()
+                : null;
+        return new Question(columns.get(TEXT_COLUMN), parseAnswers(columns.get(ANSWERS_COLUMN), line), topic);
+    }
+
+    private List<String> splitColumns(String line) {
+        var columns = new ArrayList<String>(ANSWERS_COLUMN + 1);
+        var column = new StringBuilder(line.length());
+        boolean inQuotes = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == QUOTE && inQuotes) {
+                if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    column.append(QUOTE);
+                    i++;
+                } else {
+                    inQuotes = false;
+                }
+            } else if (c == QUOTE && column.isEmpty()) {
+                inQuotes = true;
+            } else if (c == COLUMN_SEPARATOR && !inQuotes) {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(c);
+            }
+        }
+        columns.add(column.toString());
+        return columns;
+    }
+
+    private List<Answer> parseAnswers(String column, String line) {
+        var answers = new ArrayList<Answer>();
+        int start = 0;
+        while (start < column.length()) {
+            int end = column.indexOf(ANSWER_SEPARATOR, start);
+            if (end < 0) {
+                end = column.length();
+            }
+            answers.add(parseAnswer(column.substring(start, end), line));
+            start = end + 1;
+        }
+        return answers;
+    }
+
+    private Answer parseAnswer(String value, String line) {
+        int separatorIndex = value.lastIndexOf(CORRECTNESS_SEPARATOR);
+        if (separatorIndex < 0) {
+            throw new QuestionReadException("Answer correctness is missing for '%s' in line: %s"
+                    .formatted(value, line));
+        }
+        return new Answer(value.substring(0, separatorIndex),
+                Boolean.parseBoolean(value.substring(separatorIndex + 1)));
+    }
+}
@@ -0,0 +1,11 @@
+package ru.otus.hw.dao;
+
+import ru.otus.hw.domain.ExamRecord;
+
+import java.util.function.Consumer;
+
+public interface ExamRecordDao {
+    void append(ExamRecord examRecord);
+
+    void forEach(Consumer<ExamRecord> consumer);
+}
@@ -0,0 +1,159 @@
+package ru.otus.hw.dao;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import ru.otus.hw.config.ResultsLogConfig;
+import ru.otus.hw.domain.ExamRecord;
+import ru.otus.hw.domain.Student;
+import ru.otus.hw.exceptions.ExamRecordException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+@Component
+public class FileExamRecordDao implements ExamRecordDao {
+
+    private static final char COLUMN_SEPARATOR = ';';
+
+    private static final char OUTCOME_SEPARATOR = ',';
+
+    private static final char RIGHT = '+';
+
+    private static final char WRONG = '-';
+
+    private static final int OUTCOMES_COLUMN = 4;
+
+    private final Path logFile;
+
+    private final Queue<String> pendingLines = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private BufferedWriter writer;
+
+    public FileExamRecordDao(ResultsLogConfig resultsLogConfig) {
+        var fileName = resultsLogConfig.getResultsLogFile();
+        this.logFile = fileName == null || fileName.isBlank() ? null : Path.of(fileName);
+    }
+
+    @Override
+    public void append(ExamRecord examRecord) {
+        if (logFile == null) {
+            return;
+        }
+        pendingLines.add(format(examRecord));
+        while (!pendingLines.isEmpty() && draining.compareAndSet(false, true)) {
+            try {
+                writePending();
+            } finally {
+                draining.set(false);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        while (!draining.compareAndSet(false, true)) {
+            Thread.onSpinWait();
+        }
+        try {
+            if (!pendingLines.isEmpty()) {
+                writePending();
+            }
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+        } catch (IOException e) {
+            throw new ExamRecordException("Failed to close " + logFile, e);
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<ExamRecord> consumer) {
+        if (logFile == null || !Files.exists(logFile)) {
+            return;
+        }
+        try (var lines = Files.lines(logFile, StandardCharsets.UTF_8)) {
+            lines.filter(line -> !line.isBlank())
+                    .map(this::parse)
+                    .forEach(consumer);
+        } catch (IOException e) {
+            throw new ExamRecordException("Failed to read exam records from " + logFile, e);
+        }
+    }
+
+    private void writePending() {
+        try {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(logFile, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            String line;
+            while ((line = pendingLines.poll()) != null) {
+                writer.write(line);
+                writer.newLine();
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new ExamRecordException("Failed to append exam records to " + logFile, e);
+        }
+    }
+
+    private String format(ExamRecord examRecord) {
+        var line = new StringBuilder()
+                .append(examRecord.finishedAt()).append(COLUMN_SEPARATOR)
+                .append(sanitize(examRecord.student().firstName())).append(COLUMN_SEPARATOR)
+                .append(sanitize(examRecord.student().lastName())).append(COLUMN_SEPARATOR)
+                .append(examRecord.passed()).append(COLUMN_SEPARATOR);
+        for (int i = 0; i < examRecord.questionTexts().length; i++) {
+            if (i > 0) {
+                line.append(OUTCOME_SEPARATOR);
+            }
+            line.append(URLEncoder.encode(examRecord.questionTexts()[i], StandardCharsets.UTF_8))
+                    .append(examRecord.rightAnswers()[i] ? RIGHT : WRONG);
+        }
+        return line.toString();
+    }
+
+    private ExamRecord parse(String line) {
+        var columns = line.split(String.valueOf(COLUMN_SEPARATOR), -1);
+        if (columns.length != OUTCOMES_COLUMN + 1) {
+            throw new ExamRecordException("Malformed exam record: " + line);
+        }
+        var outcomes = columns[OUTCOMES_COLUMN].isEmpty()
+                ? new String[0]
+                : columns[OUTCOMES_COLUMN].split(String.valueOf(OUTCOME_SEPARATOR));
+        var questionTexts = new String[outcomes.length];
+        boolean[] rightAnswers = new boolean[outcomes.length];
+        try {
+            for (int i = 0; i < outcomes.length; i++) {
+                var outcome = outcomes[i];
+                questionTexts[i] = URLDecoder.decode(outcome.substring(0, outcome.length() - 1),
+                        StandardCharsets.UTF_8);
+                rightAnswers[i] = outcome.charAt(outcome.length() - 1) == RIGHT;
+            }
+            return new ExamRecord(Instant.parse(columns[0]), new Student(columns[1], columns[2]),
+                    Boolean.parseBoolean(columns[3]), questionTexts, rightAnswers);
+        } catch (RuntimeException e) {
+            throw new ExamRecordException("Malformed exam record: " + line, e);
+        }
+    }
+
+    private String sanitize(String value) {
+        return value.replace(COLUMN_SEPARATOR, ' ');
+    }
+}
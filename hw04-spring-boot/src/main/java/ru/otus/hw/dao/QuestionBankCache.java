@@ -0,0 +1,52 @@
+package ru.otus.hw.dao;
+
+import org.springframework.stereotype.Component;
+import ru.otus.hw.domain.Question;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class QuestionBankCache {
+
+    private final Map<QuestionBankKey, CachedQuestionBank> banks = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    public List<Question> getOrLoad(QuestionBankKey key, ResourceFingerprint fingerprint,
+                                    Supplier<List<Question>> loader) {
+        var cached = banks.get(key);
+        if (cached != null && cached.fingerprint().equals(fingerprint)) {
+            hitCount.incrementAndGet();
+            return cached.questions();
+        }
+        return banks.compute(key, (k, current) -> {
+            if (current != null && current.fingerprint().equals(fingerprint)) {
+                hitCount.incrementAndGet();
+                return current;
+            }
+            missCount.incrementAndGet();
+            return new CachedQuestionBank(fingerprint, loader.get());
+        }).questions();
+    }
+
+    public void invalidateAll() {
+        banks.clear();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private record CachedQuestionBank(ResourceFingerprint fingerprint, List<Question> questions) {
+    }
+}
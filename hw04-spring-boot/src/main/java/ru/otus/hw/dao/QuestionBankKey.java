@@ -0,0 +1,6 @@
+package ru.otus.hw.dao;
+
+import java.util.Locale;
+
+public record QuestionBankKey(String fileName, Locale locale) {
+}
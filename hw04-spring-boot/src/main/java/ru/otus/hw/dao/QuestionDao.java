@@ -3,7 +3,12 @@ package ru.otus.hw.dao;
 import ru.otus.hw.domain.Question;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface QuestionDao {
     List<Question> findAll();
+
+    default Stream<Question> streamAll() {
+        return findAll().stream();
+    }
 }
@@ -0,0 +1,94 @@
+package ru.otus.hw.dao.binary;
+
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static ru.otus.hw.dao.binary.BinaryQuestionBankFormat.ANSWER_ENTRY_SIZE;
+import static ru.otus.hw.dao.binary.BinaryQuestionBankFormat.HEADER_SIZE;
+import static ru.otus.hw.dao.binary.BinaryQuestionBankFormat.MAGIC;
+import static ru.otus.hw.dao.binary.BinaryQuestionBankFormat.QUESTION_ENTRY_SIZE;
+import static ru.otus.hw.dao.binary.BinaryQuestionBankFormat.VERSION;
+
+public class BinaryQuestionBank extends AbstractList<Question> implements RandomAccess {
+
+    private final ByteBuffer buffer;
+
+    private final int questionCount;
+
+    private final int answerIndexOffset;
+
+    private final int stringTableOffset;
+
+    public BinaryQuestionBank(ByteBuffer buffer) {
+        this.buffer = buffer.asReadOnlyBuffer();
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new QuestionReadException("Not a binary question bank");
+        }
+        if (buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new QuestionReadException("Unsupported binary question bank version: "
+                    + buffer.getInt(Integer.BYTES));
+        }
+        this.questionCount = buffer.getInt(2 * Integer.BYTES);
+        int answerCount = buffer.getInt(3 * Integer.BYTES);
+        this.stringTableOffset = buffer.getInt(4 * Integer.BYTES);
+        this.answerIndexOffset = HEADER_SIZE + questionCount * QUESTION_ENTRY_SIZE;
+        if (answerIndexOffset + answerCount * ANSWER_ENTRY_SIZE != stringTableOffset
+                || stringTableOffset > buffer.capacity()) {
+            throw new QuestionReadException("Corrupted binary question bank header");
+        }
+    }
+
+    public static BinaryQuestionBank map(Path path) {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new BinaryQuestionBank(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new QuestionReadException("Failed to map " + path, e);
+        }
+    }
+
+    @Override
+    public Question get(int index) {
+        if (index < 0 || index >= questionCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + questionCount);
+        }
+        int entry = HEADER_SIZE + index * QUESTION_ENTRY_SIZE;
+        String text = readString(buffer.getInt(entry), buffer.getInt(entry + Integer.BYTES));
+        int firstAnswer = buffer.getInt(entry + 2 * Integer.BYTES);
+        int answerCount = buffer.getInt(entry + 3 * Integer.BYTES);
+        long correctnessMask = buffer.getLong(entry + 4 * Integer.BYTES);
+        return new Question(text, readAnswers(firstAnswer, answerCount, correctnessMask));
+    }
+
+    @Override
+    public int size() {
+        return questionCount;
+    }
+
+    private List<Answer> readAnswers(int firstAnswer, int answerCount, long correctnessMask) {
+        var answers = new ArrayList<Answer>(answerCount);
+        for (int i = 0; i < answerCount; i++) {
+            int entry = answerIndexOffset + (firstAnswer + i) * ANSWER_ENTRY_SIZE;
+            String text = readString(buffer.getInt(entry), buffer.getInt(entry + Integer.BYTES));
+            answers.add(new Answer(text, (correctnessMask >>> i & 1L) != 0));
+        }
+        return answers;
+    }
+
+    private String readString(int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(stringTableOffset + offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,30 @@
+package ru.otus.hw.dao.binary;
+
+public final class BinaryQuestionBankFormat {
+
+    public static final String FILE_EXTENSION = ".qbank";
+
+    public static final int MAGIC = 0x51424E4B;
+
+    public static final int VERSION = 1;
+
+    public static final int HEADER_SIZE = 5 * Integer.BYTES;
+
+    public static final int QUESTION_ENTRY_SIZE = 4 * Integer.BYTES + Long.BYTES;
+
+    public static final int ANSWER_ENTRY_SIZE = 2 * Integer.BYTES;
+
+    public static final int MAX_ANSWERS_PER_QUESTION = Long.SIZE;
+
+    private static final String CSV_EXTENSION = ".csv";
+
+    private BinaryQuestionBankFormat() {
+    }
+
+    public static String fileNameFor(String csvFileName) {
+        if (csvFileName.endsWith(CSV_EXTENSION)) {
+            return csvFileName.substring(0, csvFileName.length() - CSV_EXTENSION.length()) + FILE_EXTENSION;
+        }
+        return csvFileName + FILE_EXTENSION;
+    }
+}
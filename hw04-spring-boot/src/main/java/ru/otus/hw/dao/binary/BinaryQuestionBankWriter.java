@@ -0,0 +1,107 @@
+package ru.otus.hw.dao.binary;
+
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static ru.otus.hw.dao.binary.BinaryQuestionBankFormat.ANSWER_ENTRY_SIZE;
+import static ru.otus.hw.dao.binary.BinaryQuestionBankFormat.HEADER_SIZE;
+import static ru.otus.hw.dao.binary.BinaryQuestionBankFormat.MAGIC;
+import static ru.otus.hw.dao.binary.BinaryQuestionBankFormat.MAX_ANSWERS_PER_QUESTION;
+import static ru.otus.hw.dao.binary.BinaryQuestionBankFormat.QUESTION_ENTRY_SIZE;
+import static ru.otus.hw.dao.binary.BinaryQuestionBankFormat.VERSION;
+
+public class BinaryQuestionBankWriter {
+
+    public void write(Iterator<Question> questions, OutputStream out) throws IOException {
+        var bank = new BankBuilder();
+        questions.forEachRemaining(bank::add);
+        bank.writeTo(new DataOutputStream(out));
+    }
+
+    private static final class BankBuilder {
+
+        private final ByteArrayOutputStream questionIndexBytes = new ByteArrayOutputStream();
+
+        private final DataOutputStream questionIndex = new DataOutputStream(questionIndexBytes);
+
+        private final ByteArrayOutputStream answerIndexBytes = new ByteArrayOutputStream();
+
+        private final DataOutputStream answerIndex = new DataOutputStream(answerIndexBytes);
+
+        private final ByteArrayOutputStream stringTable = new ByteArrayOutputStream();
+
+        private final Map<String, Integer> stringOffsets = new HashMap<>();
+
+        private int questionCount;
+
+        private int answerCount;
+
+        void add(Question question) {
+            List<Answer> answers = question.answers();
+            if (answers.size() > MAX_ANSWERS_PER_QUESTION) {
+                throw new IllegalArgumentException("Too many answers (%d) for question: %s"
+                        .formatted(answers.size(), question.text()));
+            }
+            try {
+                writeStringRef(questionIndex, question.text());
+                questionIndex.writeInt(answerCount);
+                questionIndex.writeInt(answers.size());
+                questionIndex.writeLong(correctnessMask(answers));
+                for (var answer : answers) {
+                    writeStringRef(answerIndex, answer.text());
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("In-memory write failed", e);
+            }
+            questionCount++;
+            answerCount += answers.size();
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            int stringTableOffset = HEADER_SIZE
+                    + questionCount * QUESTION_ENTRY_SIZE
+                    + answerCount * ANSWER_ENTRY_SIZE;
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(questionCount);
+            out.writeInt(answerCount);
+            out.writeInt(stringTableOffset);
+            questionIndexBytes.writeTo(out);
+            answerIndexBytes.writeTo(out);
+            stringTable.writeTo(out);
+            out.flush();
+        }
+
+        private void writeStringRef(DataOutputStream index, String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            Integer offset = stringOffsets.get(value);
+            if (offset == null) {
+                offset = stringTable.size();
+                stringTable.write(bytes);
+                stringOffsets.put(value, offset);
+            }
+            index.writeInt(offset);
+            index.writeInt(bytes.length);
+        }
+
+        private long correctnessMask(List<Answer> answers) {
+            long mask = 0;
+            for (int i = 0; i < answers.size(); i++) {
+                if (answers.get(i).isCorrect()) {
+                    mask |= 1L << i;
+                }
+            }
+            return mask;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package ru.otus.hw.dao.binary;
+
+import lombok.extern.slf4j.Slf4j;
+import ru.otus.hw.dao.CsvQuestionParser;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+@Slf4j
+public final class QuestionBankCompiler {
+
+    private QuestionBankCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: QuestionBankCompiler <source dir> <target dir>");
+        }
+        for (var compiled : compileAll(Path.of(args[0]), Path.of(args[1]))) {
+            log.info("Compiled question bank {}", compiled);
+        }
+    }
+
+    public static List<Path> compileAll(Path sourceDir, Path targetDir) throws IOException {
+        List<Path> sources;
+        try (var files = Files.list(sourceDir)) {
+            sources = files.filter(file -> file.getFileName().toString().endsWith(".csv"))
+                    .sorted()
+                    .toList();
+        }
+        Files.createDirectories(targetDir);
+        for (var source : sources) {
+            var fileName = BinaryQuestionBankFormat.fileNameFor(source.getFileName().toString());
+            compile(source, targetDir.resolve(fileName));
+        }
+        return sources;
+    }
+
+    public static void compile(Path source, Path target) throws IOException {
+        var parser = new CsvQuestionParser();
+        try (var reader = Files.newBufferedReader(source, StandardCharsets.UTF_8);
+             var questions = parser.parse(reader);
+             var out = new BufferedOutputStream(Files.newOutputStream(target))) {
+            new BinaryQuestionBankWriter().write(questions.iterator(), out);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package ru.otus.hw.domain;
+
+public record AnswerSheet(Student student, int[] chosenAnswers) {
+}
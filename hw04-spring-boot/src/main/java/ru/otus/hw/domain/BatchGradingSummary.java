@@ -0,0 +1,12 @@
+package ru.otus.hw.domain;
+
+public record BatchGradingSummary(long gradedCount, long passedCount) {
+
+    public long failedCount() {
+        return gradedCount - passedCount;
+    }
+
+    public BatchGradingSummary plus(BatchGradingSummary other) {
+        return new BatchGradingSummary(gradedCount + other.gradedCount, passedCount + other.passedCount);
+    }
+}
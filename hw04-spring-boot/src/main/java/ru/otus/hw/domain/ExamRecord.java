@@ -0,0 +1,17 @@
+package ru.otus.hw.domain;
+
+import java.time.Instant;
+
+public record ExamRecord(Instant finishedAt, Student student, boolean passed,
+                         String[] questionTexts, boolean[] rightAnswers) {
+
+    public int rightAnswersCount() {
+        int count = 0;
+        for (boolean isRight : rightAnswers) {
+            if (isRight) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
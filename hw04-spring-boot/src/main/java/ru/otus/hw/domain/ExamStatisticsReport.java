@@ -0,0 +1,11 @@
+package ru.otus.hw.domain;
+
+import java.util.List;
+
+public record ExamStatisticsReport(long examsCount, long passedCount, long[] scoreHistogram,
+                                   List<QuestionDifficulty> hardestQuestions) {
+
+    public double passRate() {
+        return examsCount == 0 ? 0 : (double) passedCount / examsCount;
+    }
+}
@@ -2,5 +2,13 @@ package ru.otus.hw.domain;
 
 import java.util.List;
 
-public record Question(String text, List<Answer> answers) {
+public record Question(String text, List<Answer> answers, String topic) {
+
+    public Question {
+        answers = List.copyOf(answers);
+    }
+
+    public Question(String text, List<Answer> answers) {
+        this(text, answers, null);
+    }
 }
@@ -0,0 +1,12 @@
+package ru.otus.hw.domain;
+
+public record QuestionDifficulty(String questionText, long rightAnswersCount, long wrongAnswersCount) {
+
+    public long askedCount() {
+        return rightAnswersCount + wrongAnswersCount;
+    }
+
+    public double wrongAnswersRate() {
+        return askedCount() == 0 ? 0 : (double) wrongAnswersCount / askedCount();
+    }
+}
@@ -1,8 +1,11 @@
 package ru.otus.hw.domain;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 @Data
@@ -11,17 +14,26 @@ public class TestResult {
 
     private final List<Question> answeredQuestions;
 
+    @Getter(AccessLevel.NONE)
+    private final BitSet rightAnswers;
+
     private int rightAnswersCount;
 
     public TestResult(Student student) {
         this.student = student;
         this.answeredQuestions = new ArrayList<>();
+        this.rightAnswers = new BitSet();
     }
 
     public void applyAnswer(Question question, boolean isRightAnswer) {
-        answeredQuestions.add(question);
         if (isRightAnswer) {
+            rightAnswers.set(answeredQuestions.size());
             rightAnswersCount++;
         }
+        answeredQuestions.add(question);
+    }
+
+    public boolean isRightAnswer(int answeredQuestionIndex) {
+        return rightAnswers.get(answeredQuestionIndex);
     }
 }
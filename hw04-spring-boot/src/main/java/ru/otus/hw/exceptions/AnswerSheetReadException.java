@@ -0,0 +1,11 @@
+package ru.otus.hw.exceptions;
+
+public class AnswerSheetReadException extends RuntimeException {
+    public AnswerSheetReadException(String message, Throwable ex) {
+        super(message, ex);
+    }
+
+    public AnswerSheetReadException(String message) {
+        super(message);
+    }
+}
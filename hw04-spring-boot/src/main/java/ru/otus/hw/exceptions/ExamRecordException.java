@@ -0,0 +1,11 @@
+package ru.otus.hw.exceptions;
+
+public class ExamRecordException extends RuntimeException {
+    public ExamRecordException(String message, Throwable ex) {
+        super(message, ex);
+    }
+
+    public ExamRecordException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package ru.otus.hw.exceptions;
+
+public class ExamServerException extends RuntimeException {
+    public ExamServerException(String message) {
+        super(message);
+    }
+
+    public ExamServerException(String message, Throwable ex) {
+        super(message, ex);
+    }
+}
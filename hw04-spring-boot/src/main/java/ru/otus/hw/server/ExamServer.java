@@ -0,0 +1,200 @@
+package ru.otus.hw.server;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import ru.otus.hw.config.ExamServerProperties;
+import ru.otus.hw.exceptions.ExamServerException;
+import ru.otus.hw.service.LocalizedMessagesService;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExamServer implements SmartLifecycle {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final ExamServerProperties properties;
+
+    private final ExamSessionFactory sessionFactory;
+
+    private final LocalizedMessagesService localizedMessagesService;
+
+    private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong completedSessionsCount = new AtomicLong();
+
+    private final AtomicLong rejectedSessionsCount = new AtomicLong();
+
+    private volatile ServerSocket serverSocket;
+
+    private volatile ThreadPoolExecutor sessionExecutor;
+
+    @Override
+    public synchronized void start() {
+        if (isRunning()) {
+            return;
+        }
+        validateProperties();
+        ServerSocket server;
+        try {
+            server = new ServerSocket(properties.getPort(), 0, InetAddress.getByName(properties.getHost()));
+        } catch (IOException e) {
+            throw new ExamServerException("Failed to start exam server on %s:%d"
+                    .formatted(properties.getHost(), properties.getPort()), e);
+        }
+        var executor = new ThreadPoolExecutor(properties.getMaxSessions(), properties.getMaxSessions(),
+                0L, TimeUnit.MILLISECONDS,
+                sessionQueue(properties.getQueueCapacity()),
+                namedThreadFactory("exam-session-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        var acceptor = new Thread(() -> acceptSessions(server, executor), "exam-server-acceptor");
+        acceptor.setDaemon(true);
+        serverSocket = server;
+        sessionExecutor = executor;
+        acceptor.start();
+        log.info("Exam server is listening on {}", server.getLocalSocketAddress());
+    }
+
+    private void validateProperties() {
+        if (properties.getMaxSessions() < 1) {
+            throw new ExamServerException("Exam server max sessions must be positive, got %d"
+                    .formatted(properties.getMaxSessions()));
+        }
+        if (properties.getQueueCapacity() < 0) {
+            throw new ExamServerException("Exam server queue capacity must not be negative, got %d"
+                    .formatted(properties.getQueueCapacity()));
+        }
+    }
+
+    private static BlockingQueue<Runnable> sessionQueue(int capacity) {
+        return capacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!isRunning()) {
+            return;
+        }
+        closeQuietly(serverSocket);
+        openSockets.forEach(this::closeQuietly);
+        sessionExecutor.shutdownNow();
+        try {
+            sessionExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        serverSocket = null;
+        sessionExecutor = null;
+        log.info("Exam server stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        var socket = serverSocket;
+        return socket != null && !socket.isClosed();
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.isEnabled();
+    }
+
+    public int getLocalPort() {
+        var socket = serverSocket;
+        return socket == null ? -1 : socket.getLocalPort();
+    }
+
+    public int getActiveSessionsCount() {
+        var executor = sessionExecutor;
+        return executor == null ? 0 : executor.getActiveCount();
+    }
+
+    public long getCompletedSessionsCount() {
+        return completedSessionsCount.get();
+    }
+
+    public long getRejectedSessionsCount() {
+        return rejectedSessionsCount.get();
+    }
+
+    private void acceptSessions(ServerSocket server, ThreadPoolExecutor executor) {
+        while (!server.isClosed()) {
+            try {
+                submitSession(server.accept(), executor);
+            } catch (IOException e) {
+                if (!server.isClosed()) {
+                    log.warn("Failed to accept exam session", e);
+                }
+            }
+        }
+    }
+
+    private void submitSession(Socket socket, ThreadPoolExecutor executor) {
+        openSockets.add(socket);
+        try {
+            executor.execute(() -> runSession(socket));
+        } catch (RejectedExecutionException e) {
+            rejectSession(socket);
+        }
+    }
+
+    private void runSession(Socket socket) {
+        try (socket) {
+            sessionFactory.createSession(socket.getInputStream(), socket.getOutputStream()).run();
+            completedSessionsCount.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            log.info("Exam session {} aborted: {}", socket.getRemoteSocketAddress(), e.toString());
+        } finally {
+            openSockets.remove(socket);
+        }
+    }
+
+    private void rejectSession(Socket socket) {
+        rejectedSessionsCount.incrementAndGet();
+        try (socket) {
+            var out = new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            out.println(localizedMessagesService.getMessage("ExamServer.busy"));
+        } catch (IOException e) {
+            log.debug("Failed to notify rejected exam session", e);
+        } finally {
+            openSockets.remove(socket);
+        }
+    }
+
+    private void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            log.debug("Failed to close {}", closeable, e);
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        var counter = new AtomicInteger();
+        return runnable -> {
+            var thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
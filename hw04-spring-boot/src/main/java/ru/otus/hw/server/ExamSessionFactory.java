@@ -0,0 +1,62 @@
+package ru.otus.hw.server;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.otus.hw.config.TestConfig;
+import ru.otus.hw.dao.QuestionDao;
+import ru.otus.hw.service.ExamStatisticsService;
+import ru.otus.hw.service.LocalizedIOServiceImpl;
+import ru.otus.hw.service.LocalizedMessagesService;
+import ru.otus.hw.service.QuestionSampler;
+import ru.otus.hw.service.ResultServiceImpl;
+import ru.otus.hw.service.StreamsIOService;
+import ru.otus.hw.service.StudentServiceImpl;
+import ru.otus.hw.service.TestRunnerService;
+import ru.otus.hw.service.TestRunnerServiceImpl;
+import ru.otus.hw.service.TestServiceImpl;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class ExamSessionFactory {
+
+    private final LocalizedMessagesService localizedMessagesService;
+
+    private final QuestionDao questionDao;
+
+    private final TestConfig testConfig;
+
+    private final ExamStatisticsService examStatisticsService;
+
+    private final QuestionSampler questionSampler;
+
+    private final boolean bufferedOutput;
+
+    public ExamSessionFactory(LocalizedMessagesService localizedMessagesService,
+                              QuestionDao questionDao,
+                              TestConfig testConfig,
+                              ExamStatisticsService examStatisticsService,
+                              QuestionSampler questionSampler,
+                              @Value("${app.io.buffered-output:false}") boolean bufferedOutput) {
+        this.localizedMessagesService = localizedMessagesService;
+        this.questionDao = questionDao;
+        this.testConfig = testConfig;
+        this.examStatisticsService = examStatisticsService;
+        this.questionSampler = questionSampler;
+        this.bufferedOutput = bufferedOutput;
+    }
+
+    public TestRunnerService createSession(InputStream inputStream, OutputStream outputStream) {
+        var ioService = new StreamsIOService(new PrintStream(outputStream, false, StandardCharsets.UTF_8),
+                inputStream, bufferedOutput);
+        var localizedIOService = new LocalizedIOServiceImpl(localizedMessagesService, ioService);
+        return new TestRunnerServiceImpl(
+                new TestServiceImpl(localizedIOService, questionDao, testConfig, questionSampler),
+                new StudentServiceImpl(localizedIOService),
+                new ResultServiceImpl(testConfig, localizedIOService),
+                examStatisticsService);
+    }
+}
@@ -0,0 +1,9 @@
+package ru.otus.hw.service;
+
+import ru.otus.hw.domain.BatchGradingSummary;
+
+import java.nio.file.Path;
+
+public interface BatchGradingService {
+    BatchGradingSummary grade(Path answerSheetsFile, Path resultsFile);
+}
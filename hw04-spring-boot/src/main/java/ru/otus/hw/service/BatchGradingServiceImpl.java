@@ -0,0 +1,179 @@
+package ru.otus.hw.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ru.otus.hw.config.TestConfig;
+import ru.otus.hw.dao.AnswerSheetParser;
+import ru.otus.hw.dao.QuestionDao;
+import ru.otus.hw.domain.AnswerSheet;
+import ru.otus.hw.domain.BatchGradingSummary;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.domain.TestResult;
+import ru.otus.hw.exceptions.AnswerSheetReadException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+@Service
+@RequiredArgsConstructor
+public class BatchGradingServiceImpl implements BatchGradingService {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final int TASK_THRESHOLD = 1024;
+
+    private static final char COLUMN_SEPARATOR = ';';
+
+    private final QuestionDao questionDao;
+
+    private final TestConfig testConfig;
+
+    private final AnswerSheetParser answerSheetParser = new AnswerSheetParser();
+
+    @Override
+    public BatchGradingSummary grade(Path answerSheetsFile, Path resultsFile) {
+        var answerKey = new AnswerKey(questionDao.findAll());
+        try (var reader = Files.newBufferedReader(answerSheetsFile, StandardCharsets.UTF_8);
+             var writer = Files.newBufferedWriter(resultsFile, StandardCharsets.UTF_8)) {
+            return gradeAll(reader, writer, answerKey);
+        } catch (IOException e) {
+            throw new AnswerSheetReadException("Failed to grade " + answerSheetsFile, e);
+        }
+    }
+
+    private BatchGradingSummary gradeAll(BufferedReader reader, BufferedWriter writer,
+                                         AnswerKey answerKey) throws IOException {
+        var chunk = new ArrayList<String>(CHUNK_SIZE);
+        var summary = new BatchGradingSummary(0, 0);
+        long firstLineNumber = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            chunk.add(line);
+            if (chunk.size() == CHUNK_SIZE) {
+                summary = summary.plus(writeResults(writer, gradeChunk(chunk, firstLineNumber, answerKey)));
+                firstLineNumber += chunk.size();
+                chunk.clear();
+            }
+        }
+        return summary.plus(writeResults(writer, gradeChunk(chunk, firstLineNumber, answerKey)));
+    }
+
+    private TestResult[] gradeChunk(List<String> lines, long firstLineNumber, AnswerKey answerKey) {
+        var results = new TestResult[lines.size()];
+        ForkJoinPool.commonPool().invoke(new GradeTask(lines, results, 0, lines.size(), firstLineNumber, answerKey));
+        return results;
+    }
+
+    private BatchGradingSummary writeResults(BufferedWriter writer, TestResult[] results) throws IOException {
+        long graded = 0;
+        long passed = 0;
+        for (var result : results) {
+            if (result == null) {
+                continue;
+            }
+            boolean isPassed = result.getRightAnswersCount() >= testConfig.getRightAnswersCountToPass();
+            writeResult(writer, result, isPassed);
+            graded++;
+            if (isPassed) {
+                passed++;
+            }
+        }
+        return new BatchGradingSummary(graded, passed);
+    }
+
+    private void writeResult(BufferedWriter writer, TestResult result, boolean isPassed) throws IOException {
+        writer.append(result.getStudent().firstName()).append(COLUMN_SEPARATOR)
+                .append(result.getStudent().lastName()).append(COLUMN_SEPARATOR)
+                .append(Integer.toString(result.getAnsweredQuestions().size())).append(COLUMN_SEPARATOR)
+                .append(Integer.toString(result.getRightAnswersCount())).append(COLUMN_SEPARATOR)
+                .append(isPassed ? "PASSED" : "FAILED");
+        writer.newLine();
+    }
+
+    private final class GradeTask extends RecursiveAction {
+
+        private final List<String> lines;
+
+        private final TestResult[] results;
+
+        private final int from;
+
+        private final int to;
+
+        private final long firstLineNumber;
+
+        private final AnswerKey answerKey;
+
+        GradeTask(List<String> lines, TestResult[] results, int from, int to,
+                  long firstLineNumber, AnswerKey answerKey) {
+            this.lines = lines;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.firstLineNumber = firstLineNumber;
+            this.answerKey = answerKey;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TASK_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    results[i] = gradeLine(lines.get(i), firstLineNumber + i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new GradeTask(lines, results, from, middle, firstLineNumber, answerKey),
+                    new GradeTask(lines, results, middle, to, firstLineNumber, answerKey));
+        }
+
+        private TestResult gradeLine(String line, long lineNumber) {
+            if (answerSheetParser.isSkipped(line)) {
+                return null;
+            }
+            try {
+                return answerKey.grade(answerSheetParser.parseLine(line));
+            } catch (AnswerSheetReadException e) {
+                throw new AnswerSheetReadException("Line %d: %s".formatted(lineNumber, e.getMessage()), e);
+            }
+        }
+    }
+
+    private static final class AnswerKey {
+
+        private final List<Question> questions;
+
+        private final boolean[][] correctness;
+
+        AnswerKey(List<Question> questions) {
+            this.questions = List.copyOf(questions);
+            this.correctness = new boolean[this.questions.size()][];
+            for (int q = 0; q < correctness.length; q++) {
+                var answers = this.questions.get(q).answers();
+                correctness[q] = new boolean[answers.size()];
+                for (int a = 0; a < answers.size(); a++) {
+                    correctness[q][a] = answers.get(a).isCorrect();
+                }
+            }
+        }
+
+        TestResult grade(AnswerSheet sheet) {
+            var result = new TestResult(sheet.student());
+            int answered = Math.min(sheet.chosenAnswers().length, correctness.length);
+            for (int q = 0; q < answered; q++) {
+                int choice = sheet.chosenAnswers()[q] - 1;
+                boolean isRight = choice >= 0 && choice < correctness[q].length && correctness[q][choice];
+                result.applyAnswer(questions.get(q), isRight);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package ru.otus.hw.service;
+
+import ru.otus.hw.domain.ExamRecord;
+import ru.otus.hw.domain.ExamStatisticsReport;
+import ru.otus.hw.domain.QuestionDifficulty;
+import ru.otus.hw.domain.TestResult;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+class ExamStatistics {
+
+    private final Map<String, QuestionCounters> questionCounters = new ConcurrentHashMap<>();
+
+    private final Map<Integer, LongAdder> scoreHistogram = new ConcurrentHashMap<>();
+
+    private final LongAdder examsCount = new LongAdder();
+
+    private final LongAdder passedCount = new LongAdder();
+
+    ExamRecord toExamRecord(TestResult testResult, boolean passed) {
+        var answeredQuestions = testResult.getAnsweredQuestions();
+        var questionTexts = new String[answeredQuestions.size()];
+        boolean[] rightAnswers = new boolean[answeredQuestions.size()];
+        for (int i = 0; i < questionTexts.length; i++) {
+            questionTexts[i] = answeredQuestions.get(i).text();
+            rightAnswers[i] = testResult.isRightAnswer(i);
+        }
+        return new ExamRecord(Instant.now(), testResult.getStudent(), passed, questionTexts, rightAnswers);
+    }
+
+    void apply(ExamRecord examRecord) {
+        var questionTexts = examRecord.questionTexts();
+        for (int i = 0; i < questionTexts.length; i++) {
+            var counters = questionCounters.computeIfAbsent(questionTexts[i], text -> new QuestionCounters());
+            if (examRecord.rightAnswers()[i]) {
+                counters.rightAnswersCount.increment();
+            } else {
+                counters.wrongAnswersCount.increment();
+            }
+        }
+        int score = examRecord.rightAnswersCount();
+        scoreHistogram.computeIfAbsent(score, key -> new LongAdder()).increment();
+        examsCount.increment();
+        if (examRecord.passed()) {
+            passedCount.increment();
+        }
+    }
+
+    ExamStatisticsReport report(int hardestQuestionsLimit) {
+        var scoreCounts = new HashMap<Integer, Long>();
+        scoreHistogram.forEach((score, count) -> scoreCounts.put(score, count.sum()));
+        long[] histogram = new long[scoreCounts.keySet().stream().mapToInt(Integer::intValue).max().orElse(0) + 1];
+        scoreCounts.forEach((score, count) -> histogram[score] = count);
+        var hardestQuestions = questionCounters.entrySet().stream()
+                .map(entry -> new QuestionDifficulty(entry.getKey(),
+                        entry.getValue().rightAnswersCount.sum(), entry.getValue().wrongAnswersCount.sum()))
+                .sorted(Comparator.comparingDouble(QuestionDifficulty::wrongAnswersRate)
+                        .thenComparingLong(QuestionDifficulty::wrongAnswersCount)
+                        .reversed()
+                        .thenComparing(QuestionDifficulty::questionText))
+                .limit(hardestQuestionsLimit)
+                .toList();
+        return new ExamStatisticsReport(examsCount.sum(), passedCount.sum(), histogram, hardestQuestions);
+    }
+
+    private static final class QuestionCounters {
+
+        private final LongAdder rightAnswersCount = new LongAdder();
+
+        private final LongAdder wrongAnswersCount = new LongAdder();
+    }
+}
@@ -0,0 +1,10 @@
+package ru.otus.hw.service;
+
+import ru.otus.hw.domain.ExamStatisticsReport;
+import ru.otus.hw.domain.TestResult;
+
+public interface ExamStatisticsService {
+    void register(TestResult testResult);
+
+    ExamStatisticsReport getReport(int hardestQuestionsLimit);
+}
@@ -0,0 +1,48 @@
+package ru.otus.hw.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ru.otus.hw.config.TestConfig;
+import ru.otus.hw.dao.ExamRecordDao;
+import ru.otus.hw.domain.ExamStatisticsReport;
+import ru.otus.hw.domain.TestResult;
+
+@Service
+@RequiredArgsConstructor
+public class ExamStatisticsServiceImpl implements ExamStatisticsService {
+
+    private final TestConfig testConfig;
+
+    private final ExamRecordDao examRecordDao;
+
+    private volatile ExamStatistics statistics;
+
+    @Override
+    public void register(TestResult testResult) {
+        var current = getStatistics();
+        boolean passed = testResult.getRightAnswersCount() >= testConfig.getRightAnswersCountToPass();
+        var examRecord = current.toExamRecord(testResult, passed);
+        examRecordDao.append(examRecord);
+        current.apply(examRecord);
+    }
+
+    @Override
+    public ExamStatisticsReport getReport(int hardestQuestionsLimit) {
+        return getStatistics().report(hardestQuestionsLimit);
+    }
+
+    private ExamStatistics getStatistics() {
+        var current = statistics;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (statistics == null) {
+                var restored = new ExamStatistics();
+                examRecordDao.forEach(restored::apply);
+                statistics = restored;
+            }
+            return statistics;
+        }
+    }
+}
@@ -5,6 +5,8 @@ public interface IOService {
 
     void printFormattedLine(String s, Object ...args);
 
+    void flush();
+
     String readString();
 
     String readStringWithPrompt(String prompt);
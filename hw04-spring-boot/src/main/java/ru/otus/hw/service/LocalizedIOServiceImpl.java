@@ -21,6 +21,11 @@ public class LocalizedIOServiceImpl implements LocalizedIOService {
         ioService.printFormattedLine(s, args);
     }
 
+    @Override
+    public void flush() {
+        ioService.flush();
+    }
+
     @Override
     public String readString() {
         return ioService.readString();
@@ -0,0 +1,93 @@
+package ru.otus.hw.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import ru.otus.hw.config.LocaleConfig;
+
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Optional;
+import java.util.ResourceBundle;
+
+@Component
+public class LocalizedMessageCatalog {
+
+    private final Map<Locale, Map<String, CompiledMessage>> messagesByLocale = new HashMap<>();
+
+    public LocalizedMessageCatalog(MessageSource messageSource, LocaleConfig localeConfig,
+                                   @Value("${spring.messages.basename:messages}") String basenames) {
+        for (var locale : localeConfig.getSupportedLocales()) {
+            messagesByLocale.put(locale, compileMessages(messageSource, locale, basenames));
+        }
+    }
+
+    public CompiledMessage find(Locale locale, String code) {
+        var messages = messagesByLocale.get(locale);
+        return messages == null ? null : messages.get(code);
+    }
+
+    public int size(Locale locale) {
+        var messages = messagesByLocale.get(locale);
+        return messages == null ? 0 : messages.size();
+    }
+
+    private Map<String, CompiledMessage> compileMessages(MessageSource messageSource, Locale locale,
+                                                         String basenames) {
+        var messages = new HashMap<String, CompiledMessage>();
+        for (var basename : StringUtils.commaDelimitedListToSet(StringUtils.trimAllWhitespace(basenames))) {
+            for (var code : codesOf(basename, locale)) {
+                var pattern = messageSource.getMessage(code, null, null, locale);
+                if (pattern != null && !messages.containsKey(code)) {
+                    compile(pattern, locale).ifPresent(message -> messages.put(code, message));
+                }
+            }
+        }
+        return Map.copyOf(messages);
+    }
+
+    private Iterable<String> codesOf(String basename, Locale locale) {
+        try {
+            var control = ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+            return ResourceBundle.getBundle(basename, locale, control).keySet();
+        } catch (MissingResourceException e) {
+            return List.of();
+        }
+    }
+
+    private Optional<CompiledMessage> compile(String pattern, Locale locale) {
+        try {
+            return Optional.of(new CompiledMessage(pattern, new MessageFormat(pattern, locale)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static final class CompiledMessage {
+
+        private final String pattern;
+
+        private final ThreadLocal<MessageFormat> format;
+
+        private CompiledMessage(String pattern, MessageFormat prototype) {
+            this.pattern = pattern;
+            this.format = ThreadLocal.withInitial(() -> (MessageFormat) prototype.clone());
+        }
+
+        public String pattern() {
+            return pattern;
+        }
+
+        public String render(Object... args) {
+            if (args == null || args.length == 0) {
+                return pattern;
+            }
+            return format.get().format(args);
+        }
+    }
+}
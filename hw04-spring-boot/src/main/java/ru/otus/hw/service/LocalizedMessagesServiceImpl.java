@@ -15,8 +15,15 @@ public class LocalizedMessagesServiceImpl implements LocalizedMessagesService {
 
     private final MessageSource messageSource;
 
+    private final LocalizedMessageCatalog messageCatalog;
+
     @Override
     public String getMessage(String code, Object... args) {
-        return messageSource.getMessage(code, args, localeConfig.getLocale());
+        var locale = localeConfig.getLocale();
+        var message = messageCatalog.find(locale, code);
+        if (message != null) {
+            return message.render(args);
+        }
+        return messageSource.getMessage(code, args, locale);
     }
 }
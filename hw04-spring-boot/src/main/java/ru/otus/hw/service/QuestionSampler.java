@@ -0,0 +1,125 @@
+package ru.otus.hw.service;
+
+import org.springframework.stereotype.Component;
+import ru.otus.hw.domain.Question;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Component
+public class QuestionSampler {
+
+    private final Supplier<Random> randomSupplier;
+
+    public QuestionSampler() {
+        this(ThreadLocalRandom::current);
+    }
+
+    public QuestionSampler(Supplier<Random> randomSupplier) {
+        this.randomSupplier = randomSupplier;
+    }
+
+    public List<Question> sample(Stream<Question> questions, int sampleSize, boolean stratifiedByTopic) {
+        if (sampleSize <= 0) {
+            return List.of();
+        }
+        var random = randomSupplier.get();
+        var sample = stratifiedByTopic
+                ? sampleStratified(questions, sampleSize, random)
+                : sampleUniform(questions, sampleSize, random);
+        Collections.shuffle(sample, random);
+        return sample;
+    }
+
+    private List<Question> sampleUniform(Stream<Question> questions, int sampleSize, Random random) {
+        var reservoir = new Reservoir(sampleSize);
+        questions.forEachOrdered(question -> reservoir.offer(question, random));
+        return reservoir.take(reservoir.size(), random);
+    }
+
+    private List<Question> sampleStratified(Stream<Question> questions, int sampleSize, Random random) {
+        var reservoirs = new LinkedHashMap<String, Reservoir>();
+        questions.forEachOrdered(question -> reservoirs
+                .computeIfAbsent(question.topic(), topic -> new Reservoir(sampleSize))
+                .offer(question, random));
+
+        var quotas = allocateQuotas(reservoirs, sampleSize);
+        var sample = new ArrayList<Question>(sampleSize);
+        reservoirs.forEach((topic, reservoir) -> sample.addAll(reservoir.take(quotas.get(topic), random)));
+        return sample;
+    }
+
+    private Map<String, Integer> allocateQuotas(Map<String, Reservoir> reservoirs, int sampleSize) {
+        long total = reservoirs.values().stream().mapToLong(Reservoir::seen).sum();
+        var quotas = new LinkedHashMap<String, Integer>();
+        if (total <= sampleSize) {
+            reservoirs.forEach((topic, reservoir) -> quotas.put(topic, reservoir.size()));
+            return quotas;
+        }
+        var remainders = new LinkedHashMap<String, Long>();
+        int allocated = 0;
+        for (var entry : reservoirs.entrySet()) {
+            long share = sampleSize * entry.getValue().seen();
+            int quota = (int) (share / total);
+            quotas.put(entry.getKey(), quota);
+            remainders.put(entry.getKey(), share % total);
+            allocated += quota;
+        }
+        int left = sampleSize - allocated;
+        var byRemainder = remainders.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(left)
+                .map(Map.Entry::getKey)
+                .toList();
+        byRemainder.forEach(topic -> quotas.merge(topic, 1, Integer::sum));
+        return quotas;
+    }
+
+    private static final class Reservoir {
+
+        private final Question[] items;
+
+        private long seen;
+
+        Reservoir(int capacity) {
+            this.items = new Question[capacity];
+        }
+
+        void offer(Question question, Random random) {
+            if (seen < items.length) {
+                items[(int) seen] = question;
+            } else {
+                long index = random.nextLong(seen + 1);
+                if (index < items.length) {
+                    items[(int) index] = question;
+                }
+            }
+            seen++;
+        }
+
+        long seen() {
+            return seen;
+        }
+
+        int size() {
+            return (int) Math.min(seen, items.length);
+        }
+
+        List<Question> take(int count, Random random) {
+            var filled = new ArrayList<>(Arrays.asList(items).subList(0, size()));
+            if (count < filled.size()) {
+                Collections.shuffle(filled, random);
+            }
+            return filled.subList(0, count);
+        }
+    }
+}
@@ -26,8 +26,9 @@ public class ResultServiceImpl implements ResultService {
 
         if (testResult.getRightAnswersCount() >= testConfig.getRightAnswersCountToPass()) {
             ioService.printLineLocalized("ResultService.passed.test");
-            return;
+        } else {
+            ioService.printLineLocalized("ResultService.fail.test");
         }
-        ioService.printLineLocalized("ResultService.fail.test");
+        ioService.flush();
     }
 }
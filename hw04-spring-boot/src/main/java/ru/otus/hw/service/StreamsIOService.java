@@ -1,11 +1,13 @@
 package ru.otus.hw.service;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.util.Formatter;
 import java.util.Scanner;
 
 @Primary
@@ -13,43 +15,78 @@ import java.util.Scanner;
 public class StreamsIOService implements IOService {
     private static final int MAX_ATTEMPTS = 10;
 
+    private static final int FLUSH_THRESHOLD = 8192;
+
     private final PrintStream printStream;
 
     private final Scanner scanner;
 
+    private final boolean bufferedOutput;
+
+    private final StringBuilder outputBuffer = new StringBuilder();
+
+    private final Formatter outputFormatter = new Formatter(outputBuffer);
+
+    public StreamsIOService(PrintStream printStream, InputStream inputStream) {
+        this(printStream, inputStream, false);
+    }
+
+    @Autowired
     public StreamsIOService(@Value("#{T(System).out}") PrintStream printStream,
-                            @Value("#{T(System).in}") InputStream inputStream) {
+                            @Value("#{T(System).in}") InputStream inputStream,
+                            @Value("${app.io.buffered-output:false}") boolean bufferedOutput) {
 
         this.printStream = printStream;
         this.scanner = new Scanner(inputStream);
+        this.bufferedOutput = bufferedOutput;
     }
 
     @Override
     public void printLine(String s) {
-        printStream.println(s);
+        if (!bufferedOutput) {
+            printStream.println(s);
+            return;
+        }
+        outputBuffer.append(s).append(System.lineSeparator());
+        flushIfFull();
     }
 
     @Override
     public void printFormattedLine(String s, Object... args) {
-        printStream.printf(s + "%n", args);
+        if (!bufferedOutput) {
+            printStream.printf(s + "%n", args);
+            return;
+        }
+        outputFormatter.format(s, args);
+        outputBuffer.append(System.lineSeparator());
+        flushIfFull();
+    }
+
+    @Override
+    public void flush() {
+        if (!outputBuffer.isEmpty()) {
+            printStream.print(outputBuffer);
+            outputBuffer.setLength(0);
+        }
+        printStream.flush();
     }
 
     @Override
     public String readString() {
-        return scanner.nextLine();
+        return readLine();
     }
 
     @Override
     public String readStringWithPrompt(String prompt) {
         printLine(prompt);
-        return scanner.nextLine();
+        return readLine();
     }
 
     @Override
     public int readIntForRange(int min, int max, String errorMessage) {
         for (int i = 0; i < MAX_ATTEMPTS; i++) {
             try {
-                var stringValue = scanner.nextLine();
+                var stringValue = readLine();
                 int intValue = Integer.parseInt(stringValue);
                 if (intValue < min || intValue > max) {
                     throw new IllegalArgumentException();
@@ -67,4 +104,15 @@ public class StreamsIOService implements IOService {
         printLine(prompt);
         return readIntForRange(min, max, errorMessage);
     }
+
+    private String readLine() {
+        flush();
+        return scanner.nextLine();
+    }
+
+    private void flushIfFull() {
+        if (outputBuffer.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
 }
@@ -13,10 +13,13 @@ public class TestRunnerServiceImpl implements TestRunnerService {
 
     private final ResultService resultService;
 
+    private final ExamStatisticsService examStatisticsService;
+
     @Override
     public void run() {
         var student = studentService.determineCurrentStudent();
         var testResult = testService.executeTestFor(student);
+        examStatisticsService.register(testResult);
         resultService.showResult(testResult);
     }
 }
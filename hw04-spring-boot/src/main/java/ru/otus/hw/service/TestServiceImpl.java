@@ -2,6 +2,7 @@ package ru.otus.hw.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import ru.otus.hw.config.TestConfig;
 import ru.otus.hw.dao.QuestionDao;
 import ru.otus.hw.domain.Answer;
 import ru.otus.hw.domain.Question;
@@ -18,13 +19,17 @@ public class TestServiceImpl implements TestService {
 
     private final QuestionDao questionDao;
 
+    private final TestConfig testConfig;
+
+    private final QuestionSampler questionSampler;
+
     @Override
     public TestResult executeTestFor(Student student) {
         ioService.printLine("");
         ioService.printLineLocalized("TestService.answer.the.questions");
         ioService.printLine("");
 
-        var questions = questionDao.findAll();
+        var questions = loadQuestions();
         var testResult = new TestResult(student);
 
         for (var question : questions) {
@@ -34,6 +39,16 @@ public class TestServiceImpl implements TestService {
         return testResult;
     }
 
+    private List<Question> loadQuestions() {
+        int sampleSize = testConfig.getQuestionsSampleSize();
+        if (sampleSize <= 0) {
+            return questionDao.findAll();
+        }
+        try (var questions = questionDao.streamAll()) {
+            return questionSampler.sample(questions, sampleSize, testConfig.isSampleStratifiedByTopic());
+        }
+    }
+
     private void askAndGrade(Question question, TestResult result) {
         ioService.printFormattedLine("%s", question.text());
         var answers = question.answers();
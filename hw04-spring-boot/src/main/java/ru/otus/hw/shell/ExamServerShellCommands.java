@@ -0,0 +1,39 @@
+package ru.otus.hw.shell;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.shell.standard.ShellMethod;
+import ru.otus.hw.annotations.InteractiveShellComponent;
+import ru.otus.hw.server.ExamServer;
+import ru.otus.hw.service.LocalizedMessagesService;
+
+@InteractiveShellComponent
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.shell.interactive.enabled", havingValue = "true")
+public class ExamServerShellCommands {
+
+    private final ExamServer examServer;
+
+    private final LocalizedMessagesService localizedMessagesService;
+
+    @ShellMethod(key = {"server-start", "ss"}, value = "Start accepting exam sessions over TCP")
+    public String startServer() {
+        examServer.start();
+        return localizedMessagesService.getMessage("ExamServerShellCommands.started", examServer.getLocalPort());
+    }
+
+    @ShellMethod(key = {"server-stop", "st"}, value = "Stop the exam server and abort running sessions")
+    public String stopServer() {
+        examServer.stop();
+        return localizedMessagesService.getMessage("ExamServerShellCommands.stopped");
+    }
+
+    @ShellMethod(key = {"server-status", "sst"}, value = "Show exam server sessions statistics")
+    public String showServerStatus() {
+        return localizedMessagesService.getMessage("ExamServerShellCommands.status",
+                examServer.isRunning(),
+                examServer.getActiveSessionsCount(),
+                examServer.getCompletedSessionsCount(),
+                examServer.getRejectedSessionsCount());
+    }
+}
@@ -3,9 +3,18 @@ package ru.otus.hw.shell;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
 import ru.otus.hw.annotations.InteractiveShellComponent;
+import ru.otus.hw.dao.QuestionBankCache;
+import ru.otus.hw.domain.ExamStatisticsReport;
+import ru.otus.hw.service.BatchGradingService;
+import ru.otus.hw.service.ExamStatisticsService;
+import ru.otus.hw.service.LocalizedMessagesService;
 import ru.otus.hw.service.TestRunnerService;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+
 @InteractiveShellComponent
 @RequiredArgsConstructor
 @ConditionalOnProperty(name = "spring.shell.interactive.enabled", havingValue = "true")
@@ -13,8 +22,56 @@ public class ExaminationShellCommands {
 
     private final TestRunnerService testRunnerService;
 
+    private final QuestionBankCache questionBankCache;
+
+    private final LocalizedMessagesService localizedMessagesService;
+
+    private final BatchGradingService batchGradingService;
+
+    private final ExamStatisticsService examStatisticsService;
+
     @ShellMethod(key = {"test", "run"}, value = "Run student testing and show the result")
     public void runTest() {
         testRunnerService.run();
     }
+
+    @ShellMethod(key = {"cache-stats", "cs"}, value = "Show question bank cache hit/miss counters")
+    public String showCacheStats() {
+        return localizedMessagesService.getMessage("ExaminationShellCommands.cache.stats",
+                questionBankCache.getHitCount(), questionBankCache.getMissCount());
+    }
+
+    @ShellMethod(key = {"grade-sheets", "gs"}, value = "Grade a file of pre-recorded answer sheets")
+    public String gradeAnswerSheets(@ShellOption(value = {"--input", "-i"}) String input,
+                                    @ShellOption(value = {"--output", "-o"}) String output) {
+        var summary = batchGradingService.grade(Path.of(input), Path.of(output));
+        return localizedMessagesService.getMessage("ExaminationShellCommands.grading.summary",
+                summary.gradedCount(), summary.passedCount(), summary.failedCount(), output);
+    }
+
+    @ShellMethod(key = {"exam-stats", "es"}, value = "Show pass rate, score histogram and the hardest questions")
+    public String showExamStatistics(@ShellOption(value = {"--limit", "-l"}, defaultValue = "5") int limit) {
+        return formatReport(examStatisticsService.getReport(limit));
+    }
+
+    private String formatReport(ExamStatisticsReport report) {
+        var lines = new ArrayList<String>();
+        lines.add(localizedMessagesService.getMessage("ExaminationShellCommands.stats.summary",
+                report.examsCount(), report.passedCount(), report.passRate()));
+        long[] histogram = report.scoreHistogram();
+        for (int score = 0; score < histogram.length; score++) {
+            if (histogram[score] > 0) {
+                lines.add(localizedMessagesService.getMessage("ExaminationShellCommands.stats.histogram",
+                        score, histogram[score]));
+            }
+        }
+        lines.add(localizedMessagesService.getMessage("ExaminationShellCommands.stats.hardest"));
+        var hardestQuestions = report.hardestQuestions();
+        for (int i = 0; i < hardestQuestions.size(); i++) {
+            var difficulty = hardestQuestions.get(i);
+            lines.add(localizedMessagesService.getMessage("ExaminationShellCommands.stats.question",
+                    i + 1, difficulty.questionText(), difficulty.wrongAnswersRate(), difficulty.askedCount()));
+        }
+        return String.join(System.lineSeparator(), lines);
+    }
 }
@@ -0,0 +1,49 @@
+package ru.otus.hw.dao;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.context.ActiveProfiles;
+import ru.otus.hw.config.TestFileNameProvider;
+import ru.otus.hw.dao.binary.BinaryQuestionBank;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "test.question-bank-format=binary")
+@ActiveProfiles("test")
+class BinaryQuestionDaoTest {
+
+    @Autowired
+    private QuestionDao questionDao;
+
+    @Autowired
+    private TestFileNameProvider fileNameProvider;
+
+    @Test
+    void binaryFormat_selectsBinaryDao() {
+        assertThat(questionDao).isInstanceOf(BinaryQuestionDao.class);
+    }
+
+    @Test
+    void findAll_readsBankCompiledAtBuildTime_sameAsCsv() throws IOException {
+        var csv = new ClassPathResource(fileNameProvider.getTestFileName());
+        try (var reader = new BufferedReader(new InputStreamReader(csv.getInputStream(), StandardCharsets.UTF_8))) {
+            var expected = new CsvQuestionParser().parse(reader).toList();
+
+            assertThat(questionDao.findAll())
+                    .isInstanceOf(BinaryQuestionBank.class)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void findAll_returnsSameMappedBankOnRepeatedCalls() {
+        assertThat(questionDao.findAll()).isSameAs(questionDao.findAll());
+    }
+}
@@ -0,0 +1,125 @@
+package ru.otus.hw.dao;
+
+import com.opencsv.CSVParserBuilder;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.exceptions.CsvException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.ClassPathResource;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvQuestionParserTest {
+
+    private final CsvQuestionParser parser = new CsvQuestionParser();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"questions.csv", "questions_ru.csv", "it-questions.csv"})
+    void parse_producesSameQuestionsAsOpenCsvBinding(String fileName) throws IOException {
+        var expected = parseWithOpenCsv(open(fileName));
+
+        List<Question> actual;
+        try (var reader = open(fileName)) {
+            actual = parser.parse(reader).toList();
+        }
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void parse_producesSameQuestionsAsOpenCsvBinding_forGeneratedBank() {
+        var csv = generateBank(10_000);
+
+        var expected = parseWithOpenCsv(new StringReader(csv));
+        var actual = parser.parse(new BufferedReader(new StringReader(csv))).toList();
+
+        assertThat(actual).hasSize(10_000).isEqualTo(expected);
+    }
+
+    @Test
+    void parseLine_unquotesQuotedText() {
+        var question = parser.parseLine("\"Is \"\"a;b\"\" one column?\";Yes%true|No%false");
+
+        assertThat(question).isEqualTo(new Question("Is \"a;b\" one column?",
+                List.of(new Answer("Yes", true), new Answer("No", false))));
+    }
+
+    @Test
+    void parseLine_readsOptionalTopicColumn() {
+        assertThat(parser.parseLine("Q1;A%true;Science").topic()).isEqualTo("Science");
+        assertThat(parser.parseLine("Q2;A%true; ").topic()).isNull();
+        assertThat(parser.parseLine("Q3;A%true").topic()).isNull();
+    }
+
+    @Test
+    void parse_skipsHeaderAndBlankLines() {
+        var csv = "# header\n\nQ1;A%true\n   \nQ2;B%false\n";
+
+        var questions = parser.parse(new BufferedReader(new StringReader(csv))).toList();
+
+        assertThat(questions).extracting(Question::text).containsExactly("Q1", "Q2");
+    }
+
+    @Test
+    void parseLine_throwsWhenAnswerCorrectnessIsMissing() {
+        assertThatThrownBy(() -> parser.parseLine("Q;A%true|B"))
+                .isInstanceOf(QuestionReadException.class)
+                .hasMessageContaining("'B'");
+    }
+
+    @Test
+    void parseLine_throwsWhenAnswersColumnIsMissing() {
+        assertThatThrownBy(() -> parser.parseLine("Only question text"))
+                .isInstanceOf(QuestionReadException.class)
+                .hasMessageContaining("Answers column is missing");
+    }
+
+    private BufferedReader open(String fileName) throws IOException {
+        var resource = new ClassPathResource(fileName);
+        return new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private List<Question> parseWithOpenCsv(Reader reader) {
+        try (var csvReader = new CSVReaderBuilder(reader)
+                .withSkipLines(1)
+                .withCSVParser(new CSVParserBuilder().withSeparator(';').build())
+                .build()) {
+            return csvReader.readAll().stream()
+                    .map(columns -> new Question(columns[0], Arrays.stream(columns[1].split("\\|"))
+                            .map(answer -> answer.split("%"))
+                            .map(answer -> new Answer(answer[0], Boolean.parseBoolean(answer[1])))
+                            .toList()))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (CsvException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String generateBank(int questionsCount) {
+        var csv = new StringBuilder("# generated\n");
+        for (int i = 0; i < questionsCount; i++) {
+            csv.append("Question #").append(i).append(" about \"quotes\"?;")
+                    .append("Right ").append(i).append("%true|")
+                    .append("Wrong ").append(i).append("%false|")
+                    .append("Also wrong%false\n");
+        }
+        return csv.toString();
+    }
+}
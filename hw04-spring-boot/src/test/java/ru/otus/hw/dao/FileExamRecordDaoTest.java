@@ -0,0 +1,83 @@
+package ru.otus.hw.dao;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.otus.hw.domain.ExamRecord;
+import ru.otus.hw.domain.Student;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileExamRecordDaoTest {
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    void appendedRecordsAreReadBackInOrder() {
+        var logFile = dir.resolve("results.log").toString();
+        var dao = new FileExamRecordDao(() -> logFile);
+        var finishedAt = Instant.parse("2025-06-01T10:15:30Z");
+
+        dao.append(new ExamRecord(finishedAt, new Student("Ivan", "Ivanov"), true,
+                new String[]{"Is 2 + 2 = 4?", "Semi;colon, comma and 100%", "Вопрос"}, new boolean[]{true, false, true}));
+        dao.append(new ExamRecord(finishedAt, new Student("Semi;colon", "Petrov"), false,
+                new String[0], new boolean[0]));
+        dao.close();
+
+        var records = new ArrayList<ExamRecord>();
+        new FileExamRecordDao(() -> logFile).forEach(records::add);
+
+        assertThat(records).hasSize(2);
+        assertThat(records.get(0).student()).isEqualTo(new Student("Ivan", "Ivanov"));
+        assertThat(records.get(0).finishedAt()).isEqualTo(finishedAt);
+        assertThat(records.get(0).passed()).isTrue();
+        assertThat(records.get(0).questionTexts())
+                .containsExactly("Is 2 + 2 = 4?", "Semi;colon, comma and 100%", "Вопрос");
+        assertThat(records.get(0).rightAnswers()).containsExactly(true, false, true);
+        assertThat(records.get(1).student()).isEqualTo(new Student("Semi colon", "Petrov"));
+        assertThat(records.get(1).questionTexts()).isEmpty();
+    }
+
+    @Test
+    void concurrentAppendsAreAllWritten() throws InterruptedException {
+        var logFile = dir.resolve("concurrent.log").toString();
+        var dao = new FileExamRecordDao(() -> logFile);
+        int threads = 8;
+        int recordsPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < recordsPerThread; i++) {
+                    dao.append(new ExamRecord(Instant.now(), new Student("A", "B"), true,
+                            new String[]{"Q"}, new boolean[]{true}));
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        dao.close();
+
+        var records = new ArrayList<ExamRecord>();
+        new FileExamRecordDao(() -> logFile).forEach(records::add);
+
+        assertThat(records).hasSize(threads * recordsPerThread);
+    }
+
+    @Test
+    void withoutConfiguredFile_recordsAreNotPersisted() {
+        var dao = new FileExamRecordDao(() -> "");
+        dao.append(new ExamRecord(Instant.now(), new Student("A", "B"), true, new String[0], new boolean[0]));
+
+        var records = new ArrayList<ExamRecord>();
+        dao.forEach(records::add);
+
+        assertThat(records).isEmpty();
+    }
+}
@@ -0,0 +1,99 @@
+package ru.otus.hw.dao.binary;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.otus.hw.dao.CsvQuestionParser;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.QuestionReadException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryQuestionBankTest {
+
+    private final BinaryQuestionBankWriter writer = new BinaryQuestionBankWriter();
+
+    @Test
+    void writtenBank_decodesToSameQuestions() throws IOException {
+        var questions = List.of(
+                new Question("Is Java platform-independent?",
+                        List.of(new Answer("Yes", true), new Answer("No", false))),
+                new Question("Сколько будет 2 + 2?",
+                        List.of(new Answer("3", false), new Answer("4", true), new Answer("Да", true))),
+                new Question("No answers", List.of()));
+
+        var bank = new BinaryQuestionBank(ByteBuffer.wrap(write(questions)));
+
+        assertThat(bank).hasSize(3).isEqualTo(questions);
+    }
+
+    @Test
+    void writer_storesRepeatedStringsOnce() throws IOException {
+        var repeated = IntStream.range(0, 100)
+                .mapToObj(i -> new Question("Same question", List.of(new Answer("Same answer", true))))
+                .toList();
+
+        byte[] bytes = write(repeated);
+
+        int indexSize = BinaryQuestionBankFormat.HEADER_SIZE
+                + 100 * BinaryQuestionBankFormat.QUESTION_ENTRY_SIZE
+                + 100 * BinaryQuestionBankFormat.ANSWER_ENTRY_SIZE;
+        assertThat(bytes.length - indexSize).isEqualTo("Same questionSame answer".length());
+    }
+
+    @Test
+    void writer_rejectsQuestionWithTooManyAnswers() {
+        var answers = Collections.nCopies(BinaryQuestionBankFormat.MAX_ANSWERS_PER_QUESTION + 1,
+                new Answer("A", false));
+
+        assertThatThrownBy(() -> write(List.of(new Question("Q", answers))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void map_readsCompiledCsvBank(@TempDir Path dir) throws IOException {
+        var csv = dir.resolve("bank.csv");
+        Files.writeString(csv, "# header\nQ1;A%true|B%false\n\"Q;2\";C%false|D%true\n", StandardCharsets.UTF_8);
+
+        QuestionBankCompiler.compileAll(dir, dir);
+        var bank = BinaryQuestionBank.map(dir.resolve("bank.qbank"));
+
+        try (var reader = Files.newBufferedReader(csv)) {
+            assertThat(bank).isEqualTo(new CsvQuestionParser().parse(reader).toList());
+        }
+    }
+
+    @Test
+    void bank_isUnmodifiable() throws IOException {
+        var bank = new BinaryQuestionBank(ByteBuffer.wrap(write(List.of(new Question("Q", List.of())))));
+
+        assertThatThrownBy(() -> bank.remove(0)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> bank.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void bank_rejectsForeignContent() {
+        var buffer = ByteBuffer.wrap("definitely not a question bank".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> new BinaryQuestionBank(buffer))
+                .isInstanceOf(QuestionReadException.class)
+                .hasMessageContaining("Not a binary question bank");
+    }
+
+    private byte[] write(List<Question> questions) throws IOException {
+        var out = new ByteArrayOutputStream();
+        writer.write(questions.iterator(), out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,167 @@
+package ru.otus.hw.server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import ru.otus.hw.config.ExamServerProperties;
+import ru.otus.hw.dao.FileExamRecordDao;
+import ru.otus.hw.dao.QuestionDao;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.ExamServerException;
+import ru.otus.hw.service.ExamStatisticsService;
+import ru.otus.hw.service.ExamStatisticsServiceImpl;
+import ru.otus.hw.service.LocalizedMessagesService;
+import ru.otus.hw.service.QuestionSampler;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExamServerTest {
+
+    private static final List<Question> QUESTIONS = List.of(
+            new Question("Q1", List.of(new Answer("A", true), new Answer("B", false))),
+            new Question("Q2", List.of(new Answer("C", false), new Answer("D", true))));
+
+    private final LocalizedMessagesService messages =
+            (code, args) -> code + Arrays.toString(args);
+
+    private final QuestionDao questionDao = () -> QUESTIONS;
+
+    private final ExamStatisticsService examStatisticsService =
+            new ExamStatisticsServiceImpl(() -> 2, new FileExamRecordDao(() -> null));
+
+    private ExamServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    void runsManyConcurrentSessionsWithIndependentResults() throws Exception {
+        int sessions = 50;
+        server = startServer(sessions, 0);
+        ExecutorService clients = Executors.newFixedThreadPool(sessions);
+        try {
+            var transcripts = new ArrayList<CompletableFuture<String>>();
+            for (int i = 0; i < sessions; i++) {
+                var input = "Student%d\nLast%d\n1\n%d\n".formatted(i, i, i % 2 == 0 ? 2 : 1);
+                transcripts.add(CompletableFuture.supplyAsync(() -> runClient(input), clients));
+            }
+
+            for (int i = 0; i < sessions; i++) {
+                var transcript = transcripts.get(i).get(10, TimeUnit.SECONDS);
+                int expectedRight = i % 2 == 0 ? 2 : 1;
+                assertThat(transcript)
+                        .contains("ResultService.student[Student%d Last%d]".formatted(i, i))
+                        .contains("ResultService.right.answers.count[%d]".formatted(expectedRight));
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        assertThat(server.getCompletedSessionsCount()).isEqualTo(sessions);
+        assertThat(examStatisticsService.getReport(0).examsCount()).isEqualTo(sessions);
+    }
+
+    @Test
+    void rejectsSessionsWhenPoolAndQueueAreFull() throws Exception {
+        server = startServer(1, 1);
+        try (var running = connect(); var queued = connect(); var rejected = connect()) {
+            var reader = new BufferedReader(new InputStreamReader(rejected.getInputStream(), StandardCharsets.UTF_8));
+
+            assertThat(reader.readLine()).isEqualTo("ExamServer.busy[]");
+            assertThat(server.getRejectedSessionsCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void rejectsSessionsWhenPoolIsFullAndQueueIsDisabled() throws Exception {
+        server = startServer(1, 0);
+        try (var running = connect(); var rejected = connect()) {
+            var reader = new BufferedReader(new InputStreamReader(rejected.getInputStream(), StandardCharsets.UTF_8));
+
+            assertThat(reader.readLine()).isEqualTo("ExamServer.busy[]");
+            assertThat(server.getRejectedSessionsCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void start_rejectsInvalidPoolSettings() {
+        assertThatThrownBy(() -> startServer(0, 1))
+                .isInstanceOf(ExamServerException.class)
+                .hasMessageContaining("max sessions");
+        assertThatThrownBy(() -> startServer(1, -1))
+                .isInstanceOf(ExamServerException.class)
+                .hasMessageContaining("queue capacity");
+    }
+
+    @Test
+    void stop_closesListenerAndRunningSessions() throws Exception {
+        server = startServer(1, 0);
+        int port = server.getLocalPort();
+        try (var session = connect()) {
+            session.setSoTimeout(5_000);
+
+            server.stop();
+
+            assertThat(server.isRunning()).isFalse();
+            assertThat(isClosedByServer(session)).isTrue();
+        }
+        assertThatThrownBy(() -> new Socket("127.0.0.1", port).close()).isInstanceOf(IOException.class);
+    }
+
+    private ExamServer startServer(int maxSessions, int queueCapacity) {
+        var properties = new ExamServerProperties();
+        properties.setPort(0);
+        properties.setMaxSessions(maxSessions);
+        properties.setQueueCapacity(queueCapacity);
+        var examServer = new ExamServer(properties,
+                new ExamSessionFactory(messages, questionDao, () -> 2, examStatisticsService,
+                        new QuestionSampler(), true), messages);
+        examServer.start();
+        return examServer;
+    }
+
+    private Socket connect() throws IOException {
+        return new Socket("127.0.0.1", server.getLocalPort());
+    }
+
+    private boolean isClosedByServer(Socket session) {
+        try {
+            session.getInputStream().readAllBytes();
+            return true;
+        } catch (SocketTimeoutException e) {
+            return false;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private String runClient(String input) {
+        try (var socket = connect()) {
+            OutputStream out = socket.getOutputStream();
+            out.write(input.getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            return new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package ru.otus.hw.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import ru.otus.hw.dao.QuestionDao;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.BatchGradingSummary;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.exceptions.AnswerSheetReadException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BatchGradingServiceImplTest {
+
+    private static final List<Question> QUESTIONS = List.of(
+            new Question("Q1", List.of(new Answer("A", true), new Answer("B", false))),
+            new Question("Q2", List.of(new Answer("C", false), new Answer("D", true), new Answer("E", false))),
+            new Question("Q3", List.of(new Answer("F", false), new Answer("G", true))),
+            new Question("Q4", List.of(new Answer("H", true), new Answer("I", false))));
+
+    @Autowired
+    private BatchGradingService service;
+
+    @MockitoBean
+    private QuestionDao questionDao;
+
+    @TempDir
+    private Path dir;
+
+    @BeforeEach
+    void setUp() {
+        when(questionDao.findAll()).thenReturn(QUESTIONS);
+    }
+
+    @Test
+    void grade_writesResultPerSheetInInputOrder() throws IOException {
+        var sheets = write("sheets.csv", """
+                # firstName;lastName;choices
+                Ivan;Ivanov;1,2,2,1
+
+                Petr;Petrov;2,1,1,2
+                Anna;Smirnova;1,2,2
+                Olga;Sidorova;1,9,-1,1,1,1
+                Oleg;Popov;
+                """);
+        var results = dir.resolve("results.csv");
+
+        var summary = service.grade(sheets, results);
+
+        assertThat(summary).isEqualTo(new BatchGradingSummary(5, 2));
+        assertThat(Files.readAllLines(results)).containsExactly(
+                "Ivan;Ivanov;4;4;PASSED",
+                "Petr;Petrov;4;0;FAILED",
+                "Anna;Smirnova;3;3;PASSED",
+                "Olga;Sidorova;4;2;FAILED",
+                "Oleg;Popov;0;0;FAILED");
+    }
+
+    @Test
+    void grade_handlesSheetsSpanningSeveralChunks() throws IOException {
+        int sheetsCount = 200_000;
+        var sheets = dir.resolve("many-sheets.csv");
+        try (Writer writer = Files.newBufferedWriter(sheets, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < sheetsCount; i++) {
+                writer.write("Student;N" + i + (i % 4 == 0 ? ";1,2,2,1\n" : ";2,1,1,2\n"));
+            }
+        }
+        var results = dir.resolve("many-results.csv");
+
+        var summary = service.grade(sheets, results);
+
+        assertThat(summary).isEqualTo(new BatchGradingSummary(sheetsCount, sheetsCount / 4));
+        try (var lines = Files.lines(results)) {
+            var resultLines = lines.toList();
+            assertThat(resultLines).hasSize(sheetsCount);
+            assertThat(resultLines.get(sheetsCount - 4)).isEqualTo("Student;N" + (sheetsCount - 4) + ";4;4;PASSED");
+            assertThat(resultLines.get(sheetsCount - 1)).isEqualTo("Student;N" + (sheetsCount - 1) + ";4;0;FAILED");
+        }
+    }
+
+    @Test
+    void grade_reportsLineNumberOfMalformedSheet() throws IOException {
+        var sheets = write("broken.csv", "Ivan;Ivanov;1,2\nPetr;Petrov;1,x\n");
+
+        assertThatThrownBy(() -> service.grade(sheets, dir.resolve("out.csv")))
+                .isInstanceOf(AnswerSheetReadException.class)
+                .hasMessageContaining("Line 2")
+                .hasMessageContaining("'x'");
+    }
+
+    @Test
+    void grade_rejectsSheetWithoutStudentName() throws IOException {
+        var sheets = write("no-name.csv", "1,2,2,1\n");
+
+        assertThatThrownBy(() -> service.grade(sheets, dir.resolve("out.csv")))
+                .isInstanceOf(AnswerSheetReadException.class)
+                .hasMessageContaining("Line 1");
+    }
+
+    private Path write(String fileName, String content) throws IOException {
+        return Files.writeString(dir.resolve(fileName), content, StandardCharsets.UTF_8);
+    }
+}
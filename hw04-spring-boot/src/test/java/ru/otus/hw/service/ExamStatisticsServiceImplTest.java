@@ -0,0 +1,152 @@
+package ru.otus.hw.service;
+
+import org.junit.jupiter.api.Test;
+import ru.otus.hw.dao.ExamRecordDao;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.ExamRecord;
+import ru.otus.hw.domain.Question;
+import ru.otus.hw.domain.QuestionDifficulty;
+import ru.otus.hw.domain.Student;
+import ru.otus.hw.domain.TestResult;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExamStatisticsServiceImplTest {
+
+    private static final Question EASY = new Question("Easy", List.of(new Answer("A", true)));
+
+    private static final Question HARD = new Question("Hard", List.of(new Answer("B", true)));
+
+    private final InMemoryExamRecordDao examRecordDao = new InMemoryExamRecordDao();
+
+    private final ExamStatisticsService service = new ExamStatisticsServiceImpl(() -> 2, examRecordDao);
+
+    @Test
+    void register_updatesCountersHistogramAndLog() {
+        service.register(result(true, true));
+        service.register(result(true, false));
+        service.register(result(false, false));
+
+        var report = service.getReport(5);
+
+        assertThat(report.examsCount()).isEqualTo(3);
+        assertThat(report.passedCount()).isEqualTo(1);
+        assertThat(report.scoreHistogram()).containsExactly(1, 1, 1);
+        assertThat(report.hardestQuestions()).containsExactly(
+                new QuestionDifficulty(HARD.text(), 1, 2),
+                new QuestionDifficulty(EASY.text(), 2, 1));
+        assertThat(examRecordDao.records).hasSize(3);
+    }
+
+    @Test
+    void statisticsAreRestoredFromLogOnFirstUse() {
+        examRecordDao.records.add(new ExamRecord(Instant.now(), new Student("A", "B"), false,
+                new String[]{HARD.text()}, new boolean[]{false}));
+
+        var report = service.getReport(1);
+
+        assertThat(report.examsCount()).isEqualTo(1);
+        assertThat(report.hardestQuestions()).containsExactly(new QuestionDifficulty(HARD.text(), 0, 1));
+    }
+
+    @Test
+    void statisticsFollowQuestionsRegardlessOfTheirPositionInTheBank() {
+        service.register(result(true, false));
+        var reordered = new TestResult(new Student("Jane", "Doe"));
+        reordered.applyAnswer(HARD, false);
+        reordered.applyAnswer(EASY, true);
+        service.register(reordered);
+
+        assertThat(service.getReport(5).hardestQuestions()).containsExactly(
+                new QuestionDifficulty(HARD.text(), 0, 2),
+                new QuestionDifficulty(EASY.text(), 2, 0));
+    }
+
+    @Test
+    void register_isSafeForConcurrentExams() throws InterruptedException {
+        int threads = 8;
+        int examsPerThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < examsPerThread; i++) {
+                    service.register(result(true, i % 2 == 0));
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        var report = service.getReport(5);
+        long exams = (long) threads * examsPerThread;
+        assertThat(report.examsCount()).isEqualTo(exams);
+        assertThat(report.passedCount()).isEqualTo(exams / 2);
+        assertThat(report.hardestQuestions()).containsExactly(
+                new QuestionDifficulty(HARD.text(), exams / 2, exams / 2),
+                new QuestionDifficulty(EASY.text(), exams, 0));
+    }
+
+    @Test
+    void getReport_runsConcurrentlyWithRegisterOfGrowingScores() throws Exception {
+        int questions = 200;
+        var bank = new ArrayList<Question>();
+        for (int i = 0; i < questions; i++) {
+            bank.add(new Question("Q" + i, List.of(new Answer("A", true))));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        var reports = executor.submit(() -> {
+            long lastExamsCount = 0;
+            while (lastExamsCount < questions) {
+                var report = service.getReport(1);
+                assertThat(Arrays.stream(report.scoreHistogram()).sum()).isLessThanOrEqualTo(report.examsCount());
+                lastExamsCount = report.examsCount();
+            }
+            return lastExamsCount;
+        });
+        executor.execute(() -> {
+            for (int score = 1; score <= questions; score++) {
+                var result = new TestResult(new Student("John", "Doe"));
+                for (int i = 0; i < score; i++) {
+                    result.applyAnswer(bank.get(i), true);
+                }
+                service.register(result);
+            }
+        });
+        executor.shutdown();
+
+        assertThat(reports.get(30, TimeUnit.SECONDS)).isEqualTo(questions);
+        assertThat(service.getReport(1).scoreHistogram()).hasSize(questions + 1);
+    }
+
+    private TestResult result(boolean easyIsRight, boolean hardIsRight) {
+        var result = new TestResult(new Student("John", "Doe"));
+        result.applyAnswer(EASY, easyIsRight);
+        result.applyAnswer(HARD, hardIsRight);
+        return result;
+    }
+
+    private static class InMemoryExamRecordDao implements ExamRecordDao {
+
+        private final ConcurrentLinkedQueue<ExamRecord> records = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void append(ExamRecord examRecord) {
+            records.add(examRecord);
+        }
+
+        @Override
+        public void forEach(Consumer<ExamRecord> consumer) {
+            records.forEach(consumer);
+        }
+    }
+}
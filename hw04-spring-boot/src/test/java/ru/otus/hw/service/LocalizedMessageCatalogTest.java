@@ -0,0 +1,112 @@
+package ru.otus.hw.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import ru.otus.hw.config.LocaleConfig;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class LocalizedMessageCatalogTest {
+
+    private static final Locale RU = Locale.forLanguageTag("ru-RU");
+
+    private static final Locale EN = Locale.forLanguageTag("en-US");
+
+    private final ResourceBundleMessageSource messageSource = createMessageSource();
+
+    private final LocaleConfig localeConfig = new LocaleConfig() {
+        @Override
+        public Locale getLocale() {
+            return RU;
+        }
+
+        @Override
+        public List<Locale> getSupportedLocales() {
+            return List.of(RU, EN);
+        }
+    };
+
+    private final LocalizedMessageCatalog catalog = new LocalizedMessageCatalog(messageSource, localeConfig, "messages");
+
+    @Test
+    void catalog_rendersEveryCodeLikeMessageSource() {
+        for (var locale : List.of(RU, EN)) {
+            var codes = ResourceBundle.getBundle("messages", locale,
+                    ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES)).keySet();
+            assertThat(catalog.size(locale)).isEqualTo(codes.size());
+            for (var code : codes) {
+                Object[] args = {7, 42, 0.5, 3};
+                assertThat(catalog.find(locale, code).render(args))
+                        .isEqualTo(messageSource.getMessage(code, args, locale));
+                assertThat(catalog.find(locale, code).render())
+                        .isEqualTo(messageSource.getMessage(code, null, locale));
+            }
+        }
+    }
+
+    @Test
+    void catalog_rendersConcurrentlyWithDifferentArguments() throws InterruptedException {
+        var message = catalog.find(EN, "ResultService.student");
+        var mismatches = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            var student = "Student " + t;
+            var expected = messageSource.getMessage("ResultService.student", new Object[]{student}, EN);
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    if (!expected.equals(message.render(student))) {
+                        mismatches.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(mismatches).hasValue(0);
+    }
+
+    @Test
+    void catalog_hasNoMessagesForUnsupportedLocale() {
+        assertThat(catalog.find(Locale.JAPAN, "TestService.enter.option")).isNull();
+    }
+
+    @Test
+    void service_rendersKnownCodesWithoutMessageSourceLookup() {
+        var spiedSource = spy(messageSource);
+        var service = new LocalizedMessagesServiceImpl(localeConfig, spiedSource, catalog);
+
+        var message = service.getMessage("ResultService.student", "John Doe");
+
+        assertThat(message).isEqualTo(messageSource.getMessage("ResultService.student", new Object[]{"John Doe"}, RU));
+        verify(spiedSource, never()).getMessage(any(String.class), any(Object[].class), any(Locale.class));
+    }
+
+    @Test
+    void service_fallsBackToMessageSourceForUnknownCodes() {
+        var service = new LocalizedMessagesServiceImpl(localeConfig, messageSource, catalog);
+
+        assertThat(service.getMessage("no.such.code")).isEqualTo("no.such.code");
+    }
+
+    private static ResourceBundleMessageSource createMessageSource() {
+        var source = new ResourceBundleMessageSource();
+        source.setBasename("messages");
+        source.setDefaultEncoding("UTF-8");
+        source.setFallbackToSystemLocale(false);
+        source.setUseCodeAsDefaultMessage(true);
+        return source;
+    }
+}
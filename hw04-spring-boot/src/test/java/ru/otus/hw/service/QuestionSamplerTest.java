@@ -0,0 +1,77 @@
+package ru.otus.hw.service;
+
+import org.junit.jupiter.api.Test;
+import ru.otus.hw.domain.Answer;
+import ru.otus.hw.domain.Question;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionSamplerTest {
+
+    private final QuestionSampler sampler = new QuestionSampler(() -> new Random(42));
+
+    @Test
+    void sample_returnsRequestedNumberOfDistinctQuestions() {
+        var sample = sampler.sample(questions(500_000, i -> null), 20, false);
+
+        assertThat(sample).hasSize(20).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void sample_returnsWholeBankWhenItIsSmallerThanSampleSize() {
+        var sample = sampler.sample(questions(5, i -> null), 20, false);
+
+        assertThat(sample).extracting(Question::text)
+                .containsExactlyInAnyOrder("Q0", "Q1", "Q2", "Q3", "Q4");
+    }
+
+    @Test
+    void sample_returnsEmptyListForNonPositiveSampleSize() {
+        assertThat(sampler.sample(questions(10, i -> null), 0, false)).isEmpty();
+    }
+
+    @Test
+    void sample_picksEveryQuestionWithEqualProbability() {
+        var random = new Random(7);
+        var randomSampler = new QuestionSampler(() -> random);
+        var hits = new HashMap<String, Integer>();
+        for (int run = 0; run < 10_000; run++) {
+            randomSampler.sample(questions(10, i -> null), 3, false)
+                    .forEach(question -> hits.merge(question.text(), 1, Integer::sum));
+        }
+
+        assertThat(hits).hasSize(10);
+        assertThat(hits.values()).allSatisfy(count -> assertThat(count).isBetween(2_700, 3_300));
+    }
+
+    @Test
+    void sample_allocatesStratifiedSampleProportionallyToTopicSizes() {
+        var sample = sampler.sample(questions(1_000, i -> i < 600 ? "java" : i < 900 ? "spring" : "sql"), 10, true);
+
+        var byTopic = sample.stream().collect(Collectors.groupingBy(Question::topic, Collectors.counting()));
+        assertThat(byTopic).containsEntry("java", 6L).containsEntry("spring", 3L).containsEntry("sql", 1L);
+        assertThat(sample).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void sample_distributesStratifiedRemainderToLargestShares() {
+        var sample = sampler.sample(questions(9, i -> i < 4 ? "a" : i < 7 ? "b" : null), 4, true);
+
+        var byTopic = sample.stream()
+                .collect(Collectors.groupingBy(question -> String.valueOf(question.topic()), Collectors.counting()));
+        assertThat(byTopic).containsEntry("a", 2L).containsEntry("b", 1L).containsEntry("null", 1L);
+    }
+
+    private static Stream<Question> questions(int count, Function<Integer, String> topicByIndex) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Question("Q" + i, List.of(new Answer("A", true)), topicByIndex.apply(i)));
+    }
+}
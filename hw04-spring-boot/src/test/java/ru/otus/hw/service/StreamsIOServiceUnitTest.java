@@ -104,4 +104,50 @@ class StreamsIOServiceUnitTest {
                 + "ERR" + System.lineSeparator();
         assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
     }
+
+    @Test
+    void bufferedOutputShouldBeWrittenOnlyBeforeRead() {
+        var outBuf = new CountingOutputStream();
+        InputStream in = new ByteArrayInputStream("2\n".getBytes(StandardCharsets.UTF_8));
+        var service = new StreamsIOService(new PrintStream(outBuf, false, StandardCharsets.UTF_8), in, true);
+
+        service.printFormattedLine("%s", "Question?");
+        service.printFormattedLine("%d) %s", 1, "first");
+        service.printFormattedLine("%d) %s", 2, "second");
+        service.printLine("Choose:");
+
+        assertThat(outBuf.size()).isZero();
+
+        int result = service.readIntForRange(1, 2, "Bad");
+
+        assertThat(result).isEqualTo(2);
+        assertThat(outBuf.writeCount).isEqualTo(1);
+        assertThat(outBuf.toString(StandardCharsets.UTF_8))
+                .isEqualTo(String.join(System.lineSeparator(), "Question?", "1) first", "2) second", "Choose:", ""));
+    }
+
+    @Test
+    void flushShouldWriteBufferedOutput() {
+        var outBuf = new CountingOutputStream();
+        var service = new StreamsIOService(new PrintStream(outBuf, false, StandardCharsets.UTF_8),
+                InputStream.nullInputStream(), true);
+
+        service.printLine("Passed");
+        service.flush();
+        service.flush();
+
+        assertThat(outBuf.writeCount).isEqualTo(1);
+        assertThat(outBuf.toString(StandardCharsets.UTF_8)).isEqualTo("Passed" + System.lineSeparator());
+    }
+
+    private static class CountingOutputStream extends ByteArrayOutputStream {
+
+        private int writeCount;
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            writeCount++;
+            super.write(b, off, len);
+        }
+    }
 }
@@ -1,28 +1,49 @@
 package ru.otus.hw.commands;
 
 import lombok.RequiredArgsConstructor;
+import org.jline.terminal.Terminal;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
 import ru.otus.hw.converters.BookConverter;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.services.BookImportService;
 import ru.otus.hw.services.BookService;
 
+import java.nio.file.Path;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 @SuppressWarnings({"SpellCheckingInspection", "unused"})
 @RequiredArgsConstructor
 @ShellComponent
 public class BookCommands {
 
+    private static final int OUTPUT_FLUSH_THRESHOLD = 8192;
+
     private final BookService bookService;
 
+    private final BookImportService bookImportService;
+
     private final BookConverter bookConverter;
 
+    private final Terminal terminal;
+
     @ShellMethod(value = "Find all books", key = "ab")
-    public String findAllBooks() {
-        return bookService.findAll().stream()
-                .map(bookConverter::bookToString)
-                .collect(Collectors.joining("," + System.lineSeparator()));
+    public void findAllBooks(@ShellOption(value = "--after-id", defaultValue = "0") long afterId,
+                             @ShellOption(value = "--page-size", defaultValue = "0") int pageSize) {
+        if (pageSize <= 0) {
+            printBooks(bookService::forEach);
+            return;
+        }
+        var page = bookService.findPage(afterId, pageSize);
+        printBooks(page::forEach);
+        if (page.size() == pageSize) {
+            var lastId = page.get(page.size() - 1).getId();
+            terminal.writer().println("Next page: ab --after-id %d --page-size %d".formatted(lastId, pageSize));
+            terminal.flush();
+        }
     }
 
     @ShellMethod(value = "Find book by id", key = "bbid")
@@ -38,6 +59,12 @@ public class BookCommands {
         return bookConverter.bookToString(savedBook);
     }
 
+    @ShellMethod(value = "Import books from CSV file (title;authorId;genreId,...)", key = "bimp")
+    public String importBooks(String file) {
+        int imported = bookImportService.importCsv(Path.of(file));
+        return "Imported %d books".formatted(imported);
+    }
+
     @ShellMethod(value = "Update book", key = "bupd")
     public String updateBook(long id, String title, long authorId, Set<Long> genresIds) {
         var savedBook = bookService.update(id, title, authorId, genresIds);
@@ -48,4 +75,24 @@ public class BookCommands {
     public void deleteBook(long id) {
         bookService.deleteById(id);
     }
+
+    private void printBooks(Consumer<Consumer<Book>> books) {
+        var writer = terminal.writer();
+        var buffer = new StringBuilder(OUTPUT_FLUSH_THRESHOLD);
+        var printed = new AtomicLong();
+        books.accept(book -> {
+            if (printed.getAndIncrement() > 0) {
+                buffer.append(',').append(System.lineSeparator());
+            }
+            bookConverter.appendBook(buffer, book);
+            if (printed.get() == 1 || buffer.length() >= OUTPUT_FLUSH_THRESHOLD) {
+                writer.append(buffer).flush();
+                buffer.setLength(0);
+            }
+        });
+        if (printed.get() > 0) {
+            writer.append(buffer).println();
+        }
+        writer.flush();
+    }
 }
@@ -0,0 +1,31 @@
+package ru.otus.hw.commands;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import ru.otus.hw.repositories.ReferenceCache;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@ShellComponent
+public class ReferenceCacheCommands {
+
+    private final List<ReferenceCache<?>> referenceCaches;
+
+    @ShellMethod(value = "Show reference data cache statistics", key = "rcs")
+    public String showReferenceCacheStats() {
+        return referenceCaches.stream()
+                .map(cache -> "Cache: %s, size: %d, hits: %d, misses: %d, hit rate: %.1f%%".formatted(
+                        cache.getName(), cache.size(), cache.getHitCount(), cache.getMissCount(),
+                        cache.getHitRate() * 100))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    @ShellMethod(value = "Clear reference data caches", key = "rcc")
+    public String clearReferenceCaches() {
+        referenceCaches.forEach(ReferenceCache::invalidateAll);
+        return "Cleared %d reference caches".formatted(referenceCaches.size());
+    }
+}
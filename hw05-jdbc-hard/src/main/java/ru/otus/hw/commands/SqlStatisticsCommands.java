@@ -0,0 +1,47 @@
+package ru.otus.hw.commands;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+import ru.otus.hw.repositories.stats.SqlStatementStats;
+import ru.otus.hw.repositories.stats.SqlStatistics;
+
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@ShellComponent
+public class SqlStatisticsCommands {
+
+    private final SqlStatistics sqlStatistics;
+
+    @ShellMethod(value = "Show top SQL statements by total execution time", key = "sqls")
+    public String showTopStatements(@ShellOption(defaultValue = "10") int limit) {
+        var top = sqlStatistics.findTopByTotalTime(limit);
+        if (top.isEmpty()) {
+            return "No SQL statements recorded";
+        }
+        return top.stream()
+                .map(this::statsToString)
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    @ShellMethod(value = "Reset SQL statement statistics", key = "sqlr")
+    public void resetStatistics() {
+        sqlStatistics.reset();
+    }
+
+    private String statsToString(SqlStatementStats stats) {
+        return ("total: %d us, calls: %d, avg: %d us, p50: %d us, p99: %d us, max: %d us, rows: %d, "
+                + "batch items: %d, sql: %s").formatted(
+                stats.getTotalMicros(),
+                stats.getExecutions(),
+                stats.getAverageMicros(),
+                stats.getPercentileMicros(50),
+                stats.getPercentileMicros(99),
+                stats.getMaxMicros(),
+                stats.getRows(),
+                stats.getBatchItems(),
+                stats.getSql().replaceAll("\\s+", " ").strip());
+    }
+}
@@ -0,0 +1,22 @@
+package ru.otus.hw.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Genre;
+import ru.otus.hw.repositories.ReferenceCache;
+
+@Configuration
+public class ReferenceCacheConfig {
+
+    @Bean
+    public ReferenceCache<Author> authorCache(@Value("${app.reference-cache.max-size:10000}") int maxSize) {
+        return new ReferenceCache<>("authors", maxSize, Author::getId);
+    }
+
+    @Bean
+    public ReferenceCache<Genre> genreCache(@Value("${app.reference-cache.max-size:10000}") int maxSize) {
+        return new ReferenceCache<>("genres", maxSize, Genre::getId);
+    }
+}
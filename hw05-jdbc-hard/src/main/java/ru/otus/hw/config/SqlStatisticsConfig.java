@@ -0,0 +1,23 @@
+package ru.otus.hw.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import ru.otus.hw.repositories.stats.SqlStatistics;
+import ru.otus.hw.repositories.stats.TimedJdbcTemplate;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class SqlStatisticsConfig {
+
+    @Bean
+    public SqlStatistics sqlStatistics() {
+        return new SqlStatistics();
+    }
+
+    @Bean
+    public NamedParameterJdbcTemplate namedParameterJdbcTemplate(DataSource dataSource, SqlStatistics sqlStatistics) {
+        return new NamedParameterJdbcTemplate(new TimedJdbcTemplate(dataSource, sqlStatistics));
+    }
+}
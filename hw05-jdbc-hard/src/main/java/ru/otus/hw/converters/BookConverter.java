@@ -4,8 +4,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import ru.otus.hw.models.Book;
 
-import java.util.stream.Collectors;
-
 @RequiredArgsConstructor
 @Component
 public class BookConverter {
@@ -14,14 +12,21 @@ public class BookConverter {
     private final GenreConverter genreConverter;
 
     public String bookToString(Book book) {
-        var genresString = book.getGenres().stream()
-                .map(genreConverter::genreToString)
-                .map("{%s}"::formatted)
-                .collect(Collectors.joining(", "));
-        return "Id: %d, title: %s, author: {%s}, genres: [%s]".formatted(
-                book.getId(),
-                book.getTitle(),
-                authorConverter.authorToString(book.getAuthor()),
-                genresString);
+        return appendBook(new StringBuilder(), book).toString();
+    }
+
+    public StringBuilder appendBook(StringBuilder target, Book book) {
+        target.append("Id: ").append(book.getId())
+                .append(", title: ").append(book.getTitle())
+                .append(", author: {");
+        authorConverter.appendAuthor(target, book.getAuthor()).append("}, genres: [");
+        var genres = book.getGenres();
+        for (int i = 0; i < genres.size(); i++) {
+            if (i > 0) {
+                target.append(", ");
+            }
+            genreConverter.appendGenre(target.append('{'), genres.get(i)).append('}');
+        }
+        return target.append(']');
     }
 }
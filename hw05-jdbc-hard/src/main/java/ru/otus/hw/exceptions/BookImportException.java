@@ -0,0 +1,11 @@
+package ru.otus.hw.exceptions;
+
+public class BookImportException extends RuntimeException {
+    public BookImportException(String message) {
+        super(message);
+    }
+
+    public BookImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -4,13 +4,23 @@ import ru.otus.hw.models.Book;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface BookRepository {
     Optional<Book> findById(long id);
 
     List<Book> findAll();
 
+    List<Book> findPage(long afterId, int limit);
+
+    Stream<Book> streamAll();
+
+    void forEach(Consumer<Book> action);
+
     Book save(Book book);
 
+    List<Book> insertAll(List<Book> books);
+
     void deleteById(long id);
 }
@@ -11,6 +11,7 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 
 @Repository
@@ -19,19 +20,38 @@ public class JdbcAuthorRepository implements AuthorRepository {
 
     private final NamedParameterJdbcTemplate jdbc;
 
+    private final ReferenceCache<Author> authorCache;
+
     @Override
     public List<Author> findAll() {
         String sql = "select id, full_name from authors order by id";
-        return jdbc.query(sql, new AuthorRowMapper());
+        return authorCache.loadAll(() -> jdbc.query(sql, new AuthorRowMapper()));
     }
 
     @Override
     public Optional<Author> findById(long id) {
+        return authorCache.get(id, this::loadById);
+    }
+
+    @Override
+    public List<Author> findAllByIds(Set<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return authorCache.getAll(ids, this::loadAllByIds);
+    }
+
+    private Optional<Author> loadById(long id) {
         String sql = "select id, full_name from authors where id=:id";
         var list = jdbc.query(sql, Map.of("id", id), new AuthorRowMapper());
         return list.stream().findFirst();
     }
 
+    private List<Author> loadAllByIds(Set<Long> ids) {
+        String sql = "select id, full_name from authors where id in (:ids) order by id";
+        return jdbc.query(sql, Map.of("ids", ids), new AuthorRowMapper());
+    }
+
     private static class AuthorRowMapper implements RowMapper<Author> {
         @Override
         public Author mapRow(ResultSet rs, int i) throws SQLException {
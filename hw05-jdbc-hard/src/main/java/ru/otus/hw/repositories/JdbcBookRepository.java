@@ -2,10 +2,14 @@ package ru.otus.hw.repositories;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SqlProvider;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
 import ru.otus.hw.exceptions.EntityNotFoundException;
@@ -13,21 +17,48 @@ import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.models.Genre;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.stream.Collectors;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.Map;
 import java.util.List;
 import java.util.Set;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Repository
 @RequiredArgsConstructor
 public class JdbcBookRepository implements BookRepository {
 
-    private final GenreRepository genreRepository;
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private static final String INSERT_BOOK_SQL = "insert into books(title, author_id) values(:title, :authorId)";
+
+    private static final String INSERT_GENRE_RELATION_SQL =
+            "insert into books_genres(book_id, genre_id) values(:bookId, :genreId)";
+
+    private static final String ALL_BOOKS_WITH_GENRES_SQL = """
+            select b.id as b_id, b.title,
+                   a.id as a_id, a.full_name as a_name,
+                   g.id as g_id, g.name as g_name
+            from books b
+            join authors a on a.id = b.author_id
+            left join books_genres bg on bg.book_id = b.id
+            left join genres g on g.id = bg.genre_id
+            order by b.id, g.id
+            """;
 
     private final NamedParameterJdbcTemplate jdbc;
 
@@ -51,13 +82,41 @@ public class JdbcBookRepository implements BookRepository {
 
     @Override
     public List<Book> findAll() {
-        var genres = genreRepository.findAll();
-        var relations = getAllGenreRelations();
-        var books = getAllBooksWithoutGenres();
-        mergeBooksInfo(books, genres, relations);
+        var books = new ArrayList<Book>();
+        forEach(books::add);
+        return books;
+    }
+
+    @Override
+    public List<Book> findPage(long afterId, int limit) {
+        String sql = """
+            select b.id as b_id, b.title,
+                   a.id as a_id, a.full_name as a_name
+            from books b
+            join authors a on a.id = b.author_id
+            where b.id > :afterId
+            order by b.id
+            limit :limit
+            """;
+        var books = jdbc.query(sql, Map.of("afterId", afterId, "limit", limit), new BookRowMapper());
+        addGenresTo(books);
         return books;
     }
 
+    @Override
+    public Stream<Book> streamAll() {
+        Stream<BookGenreRow> rows = jdbc.getJdbcOperations()
+                .queryForStream(streamingStatement(ALL_BOOKS_WITH_GENRES_SQL), new BookGenreRowMapper());
+        return StreamSupport.stream(new BookSpliterator(rows.iterator()), false)
+                .onClose(rows::close);
+    }
+
+    @Override
+    public void forEach(Consumer<Book> action) {
+        jdbc.getJdbcOperations()
+                .query(streamingStatement(ALL_BOOKS_WITH_GENRES_SQL), bookMergingExtractor(action));
+    }
+
     @Override
     public Book save(Book book) {
         if (book.getId() == 0) {
@@ -67,19 +126,18 @@ public class JdbcBookRepository implements BookRepository {
     }
 
     @Override
-    public void deleteById(long id) {
-        jdbc.update("delete from books where id=:id", Map.of("id", id));
+    public List<Book> insertAll(List<Book> books) {
+        for (int from = 0; from < books.size(); from += INSERT_BATCH_SIZE) {
+            var batch = books.subList(from, Math.min(from + INSERT_BATCH_SIZE, books.size()));
+            batchInsertBooks(batch);
+            batchInsertGenresRelations(batch);
+        }
+        return books;
     }
 
-    private List<Book> getAllBooksWithoutGenres() {
-        String sql = """
-            select b.id as b_id, b.title,
-                   a.id as a_id, a.full_name as a_name
-            from books b
-            join authors a on a.id = b.author_id
-            order by b.id
-        """;
-        return jdbc.query(sql, new BookRowMapper());
+    @Override
+    public void deleteById(long id) {
+        jdbc.update("delete from books where id=:id", Map.of("id", id));
     }
 
     private ResultSetExtractor<Book> bookWithGenresExtractor() {
@@ -111,49 +169,57 @@ public class JdbcBookRepository implements BookRepository {
         };
     }
 
-    private List<BookGenreRelation> getAllGenreRelations() {
-        String sql = "select book_id, genre_id from books_genres order by book_id, genre_id";
-        return jdbc.query(sql, (rs, i) -> new BookGenreRelation(rs.getLong("book_id"), rs.getLong("genre_id")));
-    }
-
-    private void mergeBooksInfo(List<Book> booksWithoutGenres, List<Genre> genres,
-                                List<BookGenreRelation> relations) {
-        if (booksWithoutGenres.isEmpty() || relations.isEmpty() || genres.isEmpty()) {
+    private void addGenresTo(List<Book> books) {
+        if (books.isEmpty()) {
             return;
         }
+        var booksById = new HashMap<Long, Book>(books.size() * 2);
+        books.forEach(book -> booksById.put(book.getId(), book));
+        String sql = """
+            select bg.book_id, g.id as g_id, g.name as g_name
+            from books_genres bg
+            join genres g on g.id = bg.genre_id
+            where bg.book_id in (:ids)
+            order by bg.book_id, g.id
+            """;
+        jdbc.query(sql, Map.of("ids", booksById.keySet()), (RowCallbackHandler) rs -> booksById
+                .get(rs.getLong("book_id"))
+                .getGenres()
+                .add(new Genre(rs.getLong("g_id"), rs.getString("g_name"))));
+    }
 
-        var byId = booksWithoutGenres.stream().collect(Collectors.toMap(Book::getId, b -> b));
-        var genreById = genres.stream().collect(Collectors.toMap(Genre::getId, g -> g));
+    private PreparedStatementCreator streamingStatement(String sql) {
+        return new StreamingStatementCreator(sql);
+    }
 
-        for (var rel : relations) {
-            var b = byId.get(rel.bookId());
-            var g = genreById.get(rel.genreId());
-            if (b != null && g != null) {
-                if (b.getGenres() == null) {
-                    b.setGenres(new ArrayList<>());
+    private ResultSetExtractor<Void> bookMergingExtractor(Consumer<Book> action) {
+        var rowMapper = new BookGenreRowMapper();
+        return rs -> {
+            Book current = null;
+            int rowNum = 0;
+            while (rs.next()) {
+                var row = rowMapper.mapRow(rs, rowNum++);
+                if (current == null || current.getId() != row.bookId()) {
+                    if (current != null) {
+                        action.accept(current);
+                    }
+                    current = row.toBook();
                 }
-                b.getGenres().add(g);
+                row.addGenreTo(current);
             }
-        }
-        booksWithoutGenres.forEach(b -> {
-            if (b.getGenres() == null) {
-                b.setGenres(new ArrayList<>());
+            if (current != null) {
+                action.accept(current);
             }
-        });
+            return null;
+        };
     }
 
     private Book insert(Book book) {
         var kh = new GeneratedKeyHolder();
-        String sql = "insert into books(title, author_id) values(:title, :authorId)";
-        jdbc.update(sql,
-                new MapSqlParameterSource()
-                        .addValue("title", book.getTitle())
-                        .addValue("authorId", book.getAuthor().getId()),
-                kh, new String[]{"id"});
+        jdbc.update(INSERT_BOOK_SQL, bookParameters(book), kh, new String[]{"id"});
 
         book.setId(kh.getKeyAs(Long.class));
-        removeGenresRelationsFor(book);
-        batchInsertGenresRelationsFor(book);
+        batchInsertGenresRelations(book.getId(), genreIdsOf(book));
         return book;
     }
 
@@ -168,30 +234,99 @@ public class JdbcBookRepository implements BookRepository {
             throw new EntityNotFoundException("Book with id=" + book.getId() + " not found");
         }
 
-        removeGenresRelationsFor(book);
-        batchInsertGenresRelationsFor(book);
+        updateGenresRelationsFor(book);
         return book;
     }
 
-    private void batchInsertGenresRelationsFor(Book book) {
+    private void batchInsertBooks(List<Book> books) {
+        var kh = new GeneratedKeyHolder();
+        SqlParameterSource[] batch = books.stream()
+                .map(this::bookParameters)
+                .toArray(SqlParameterSource[]::new);
+        jdbc.batchUpdate(INSERT_BOOK_SQL, batch, kh, new String[]{"id"});
+
+        var keys = kh.getKeyList();
+        for (int i = 0; i < books.size(); i++) {
+            books.get(i).setId(((Number) keys.get(i).get("id")).longValue());
+        }
+    }
+
+    private void batchInsertGenresRelations(List<Book> books) {
+        SqlParameterSource[] batch = books.stream()
+                .flatMap(book -> genreIdsOf(book).stream()
+                        .map(genreId -> genreRelationParameters(book.getId(), genreId)))
+                .toArray(SqlParameterSource[]::new);
+        if (batch.length > 0) {
+            jdbc.batchUpdate(INSERT_GENRE_RELATION_SQL, batch);
+        }
+    }
+
+    private MapSqlParameterSource bookParameters(Book book) {
+        return new MapSqlParameterSource()
+                .addValue("title", book.getTitle())
+                .addValue("authorId", book.getAuthor().getId());
+    }
+
+    private MapSqlParameterSource genreRelationParameters(long bookId, long genreId) {
+        return new MapSqlParameterSource()
+                .addValue("bookId", bookId)
+                .addValue("genreId", genreId);
+    }
+
+    private void updateGenresRelationsFor(Book book) {
+        var currentGenreIds = new HashSet<>(jdbc.queryForList(
+                "select genre_id from books_genres where book_id=:id", Map.of("id", book.getId()), Long.class));
+        var newGenreIds = new LinkedHashSet<>(genreIdsOf(book));
+
+        var removedGenreIds = new HashSet<>(currentGenreIds);
+        removedGenreIds.removeAll(newGenreIds);
+        newGenreIds.removeAll(currentGenreIds);
+
+        removeGenresRelations(book.getId(), removedGenreIds);
+        batchInsertGenresRelations(book.getId(), newGenreIds);
+    }
+
+    private List<Long> genreIdsOf(Book book) {
         var gs = book.getGenres();
-        if (gs == null || gs.isEmpty()) {
-            return;
+        if (gs == null) {
+            return List.of();
         }
+        return gs.stream().map(Genre::getId).toList();
+    }
 
-        String sql = "insert into books_genres(book_id, genre_id) values(:bookId, :genreId)";
+    private void batchInsertGenresRelations(long bookId, Collection<Long> genreIds) {
+        if (genreIds.isEmpty()) {
+            return;
+        }
 
-        MapSqlParameterSource[] batch = gs.stream()
-                .map(g -> new MapSqlParameterSource()
-                        .addValue("bookId", book.getId())
-                        .addValue("genreId", g.getId()))
+        MapSqlParameterSource[] batch = genreIds.stream()
+                .map(genreId -> genreRelationParameters(bookId, genreId))
                 .toArray(MapSqlParameterSource[]::new);
 
-        jdbc.batchUpdate(sql, batch);
+        jdbc.batchUpdate(INSERT_GENRE_RELATION_SQL, batch);
+    }
+
+    private void removeGenresRelations(long bookId, Set<Long> genreIds) {
+        if (genreIds.isEmpty()) {
+            return;
+        }
+        jdbc.update("delete from books_genres where book_id=:id and genre_id in (:genreIds)",
+                Map.of("id", bookId, "genreIds", genreIds));
     }
 
-    private void removeGenresRelationsFor(Book book) {
-        jdbc.update("delete from books_genres where book_id=:id", Map.of("id", book.getId()));
+    private record StreamingStatementCreator(String sql) implements PreparedStatementCreator, SqlProvider {
+
+        @Override
+        public PreparedStatement createPreparedStatement(Connection connection) throws SQLException {
+            var statement = connection.prepareStatement(sql);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            return statement;
+        }
+
+        @Override
+        public String getSql() {
+            return sql;
+        }
     }
 
     private static class BookRowMapper implements RowMapper<Book> {
@@ -202,6 +337,61 @@ public class JdbcBookRepository implements BookRepository {
         }
     }
 
-    private record BookGenreRelation(long bookId, long genreId) {
+    private static class BookGenreRowMapper implements RowMapper<BookGenreRow> {
+        @Override
+        public BookGenreRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+            long genreId = rs.getLong("g_id");
+            Long nullableGenreId = rs.wasNull() ? null : genreId;
+            return new BookGenreRow(rs.getLong("b_id"), rs.getString("title"),
+                    rs.getLong("a_id"), rs.getString("a_name"),
+                    nullableGenreId, rs.getString("g_name"));
+        }
+    }
+
+    private record BookGenreRow(long bookId, String title, long authorId, String authorName,
+                                Long genreId, String genreName) {
+
+        Book toBook() {
+            return new Book(bookId, title, new Author(authorId, authorName), new ArrayList<>());
+        }
+
+        void addGenreTo(Book book) {
+            if (genreId != null) {
+                book.getGenres().add(new Genre(genreId, genreName));
+            }
+        }
+    }
+
+    private static class BookSpliterator extends Spliterators.AbstractSpliterator<Book> {
+
+        private final Iterator<BookGenreRow> rows;
+
+        private BookGenreRow pending;
+
+        BookSpliterator(Iterator<BookGenreRow> rows) {
+            super(Long.MAX_VALUE, ORDERED | NONNULL);
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Book> action) {
+            if (pending == null && !rows.hasNext()) {
+                return false;
+            }
+            var row = pending != null ? pending : rows.next();
+            pending = null;
+            var book = row.toBook();
+            row.addGenreTo(book);
+            while (rows.hasNext()) {
+                var next = rows.next();
+                if (next.bookId() != book.getId()) {
+                    pending = next;
+                    break;
+                }
+                next.addGenreTo(book);
+            }
+            action.accept(book);
+            return true;
+        }
     }
 }
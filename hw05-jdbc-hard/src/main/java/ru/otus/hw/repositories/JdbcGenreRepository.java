@@ -18,10 +18,12 @@ public class JdbcGenreRepository implements GenreRepository {
 
     private final NamedParameterJdbcTemplate jdbc;
 
+    private final ReferenceCache<Genre> genreCache;
+
     @Override
     public List<Genre> findAll() {
         String sql = "select id, name from genres order by id";
-        return jdbc.query(sql, new GnreRowMapper());
+        return genreCache.loadAll(() -> jdbc.query(sql, new GnreRowMapper()));
     }
 
     @Override
@@ -29,6 +31,10 @@ public class JdbcGenreRepository implements GenreRepository {
         if (ids == null || ids.isEmpty()) {
             return List.of();
         }
+        return genreCache.getAll(ids, this::loadAllByIds);
+    }
+
+    private List<Genre> loadAllByIds(Set<Long> ids) {
         String sql = "select id, name from genres where id in (:ids) order by id";
         return jdbc.query(sql, Map.of("ids", ids), new GnreRowMapper());
     }
@@ -0,0 +1,186 @@
+package ru.otus.hw.repositories;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+public class ReferenceCache<V> {
+
+    private final String name;
+
+    private final int maxSize;
+
+    private final ToLongFunction<V> idExtractor;
+
+    private final Map<Long, V> entries;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final Map<Long, CompletableFuture<Optional<V>>> loadsInFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ReferenceCache(String name, int maxSize, ToLongFunction<V> idExtractor) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.idExtractor = idExtractor;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, V> eldest) {
+                return size() > ReferenceCache.this.maxSize;
+            }
+        };
+    }
+
+    public Optional<V> get(long id, LongFunction<Optional<V>> loader) {
+        var cached = getIfPresent(id);
+        if (cached != null) {
+            hitCount.increment();
+            return Optional.of(cached);
+        }
+        missCount.increment();
+        var loading = new CompletableFuture<Optional<V>>();
+        var inFlight = loadsInFlight.putIfAbsent(id, loading);
+        if (inFlight != null) {
+            return awaitLoad(inFlight);
+        }
+        long generation = invalidations.get();
+        try {
+            var loaded = loader.apply(id);
+            loaded.ifPresent(value -> putIfNotInvalidated(List.of(value), generation));
+            loading.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadsInFlight.remove(id, loading);
+        }
+    }
+
+    public List<V> getAll(Set<Long> ids, Function<Set<Long>, List<V>> loader) {
+        var found = new ArrayList<V>(ids.size());
+        var missingIds = new HashSet<Long>();
+        synchronized (entries) {
+            for (var id : ids) {
+                var cached = entries.get(id);
+                if (cached != null) {
+                    found.add(cached);
+                } else {
+                    missingIds.add(id);
+                }
+            }
+        }
+        hitCount.add(found.size());
+        missCount.add(missingIds.size());
+        if (!missingIds.isEmpty()) {
+            long generation = invalidations.get();
+            var loaded = loader.apply(missingIds);
+            putIfNotInvalidated(loaded, generation);
+            found.addAll(loaded);
+        }
+        found.sort(Comparator.comparingLong(idExtractor));
+        return found;
+    }
+
+    public List<V> loadAll(Supplier<List<V>> loader) {
+        long generation = invalidations.get();
+        var loaded = loader.get();
+        putIfNotInvalidated(loaded, generation);
+        return loaded;
+    }
+
+    public void invalidate(long id) {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.remove(id);
+        }
+    }
+
+    public void invalidateOnCompletion(long id) {
+        invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(id);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public double getHitRate() {
+        long hits = getHitCount();
+        long requests = hits + getMissCount();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    private V getIfPresent(long id) {
+        synchronized (entries) {
+            return entries.get(id);
+        }
+    }
+
+    private void putIfNotInvalidated(List<V> values, long generation) {
+        synchronized (entries) {
+            if (invalidations.get() == generation) {
+                values.forEach(value -> entries.put(idExtractor.applyAsLong(value), value));
+            }
+        }
+    }
+
+    private Optional<V> awaitLoad(CompletableFuture<Optional<V>> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
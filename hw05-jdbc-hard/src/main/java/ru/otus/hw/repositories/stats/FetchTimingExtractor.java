@@ -0,0 +1,84 @@
+package ru.otus.hw.repositories.stats;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+final class FetchTimingExtractor<T> implements ResultSetExtractor<T>, InvocationHandler {
+
+    private static final Method NEXT = nextMethod();
+
+    private final ResultSetExtractor<T> delegate;
+
+    private ResultSet resultSet;
+
+    private long extractionNanos;
+
+    private long fetchNanos;
+
+    private long rowCount;
+
+    FetchTimingExtractor(ResultSetExtractor<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public T extractData(ResultSet rs) throws SQLException, DataAccessException {
+        resultSet = rs;
+        var timedResultSet = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, this);
+        long start = System.nanoTime();
+        try {
+            return delegate.extractData(timedResultSet);
+        } finally {
+            extractionNanos = System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (!NEXT.equals(method)) {
+            return invokeDelegate(method, args);
+        }
+        long start = System.nanoTime();
+        try {
+            var hasRow = invokeDelegate(method, args);
+            if (Boolean.TRUE.equals(hasRow)) {
+                rowCount++;
+            }
+            return hasRow;
+        } finally {
+            fetchNanos += System.nanoTime() - start;
+        }
+    }
+
+    long getProcessingNanos() {
+        return extractionNanos - fetchNanos;
+    }
+
+    long getRowCount() {
+        return rowCount;
+    }
+
+    private Object invokeDelegate(Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(resultSet, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static Method nextMethod() {
+        try {
+            return ResultSet.class.getMethod("next");
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
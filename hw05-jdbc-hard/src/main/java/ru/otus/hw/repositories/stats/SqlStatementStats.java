@@ -0,0 +1,72 @@
+package ru.otus.hw.repositories.stats;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class SqlStatementStats {
+
+    private final String sql;
+
+    private final LongAdder executions = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    private final LongAdder rows = new LongAdder();
+
+    private final LongAdder batchItems = new LongAdder();
+
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+    SqlStatementStats(String sql) {
+        this.sql = sql;
+    }
+
+    void record(long elapsedNanos, long rowCount, int batchSize) {
+        executions.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulate(elapsedNanos);
+        latencyHistogram.recordMicros(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        if (rowCount > 0) {
+            rows.add(rowCount);
+        }
+        if (batchSize > 0) {
+            batchItems.add(batchSize);
+        }
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    public long getTotalMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(totalNanos.sum());
+    }
+
+    public long getMaxMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxNanos.get());
+    }
+
+    public long getAverageMicros() {
+        long count = getExecutions();
+        return count == 0 ? 0 : getTotalMicros() / count;
+    }
+
+    public long getPercentileMicros(double percentile) {
+        return latencyHistogram.percentileMicros(percentile);
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getBatchItems() {
+        return batchItems.sum();
+    }
+}
@@ -0,0 +1,51 @@
+package ru.otus.hw.repositories.stats;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+public class SqlStatistics {
+
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\?(?:\\s*,\\s*\\?)*\\)");
+
+    private static final String PLACEHOLDER_LIST_REPLACEMENT = "(?...)";
+
+    private static final String UNKNOWN_SQL = "<unknown>";
+
+    private volatile Registry registry = new Registry();
+
+    public void record(String sql, long elapsedNanos, long rowCount, int batchSize) {
+        var current = registry;
+        var rawSql = sql == null ? UNKNOWN_SQL : sql;
+        var stats = current.statsByRawSql.get(rawSql);
+        if (stats == null) {
+            stats = current.statsByRawSql.computeIfAbsent(rawSql,
+                    key -> current.statsBySql.computeIfAbsent(normalize(key), SqlStatementStats::new));
+        }
+        stats.record(elapsedNanos, rowCount, batchSize);
+    }
+
+    public List<SqlStatementStats> findTopByTotalTime(int limit) {
+        return registry.statsBySql.values().stream()
+                .sorted(Comparator.comparingLong(SqlStatementStats::getTotalMicros).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        registry = new Registry();
+    }
+
+    private String normalize(String sql) {
+        return PLACEHOLDER_LIST.matcher(sql).replaceAll(PLACEHOLDER_LIST_REPLACEMENT);
+    }
+
+    private static final class Registry {
+
+        private final Map<String, SqlStatementStats> statsBySql = new ConcurrentHashMap<>();
+
+        private final Map<String, SqlStatementStats> statsByRawSql = new ConcurrentHashMap<>();
+    }
+}
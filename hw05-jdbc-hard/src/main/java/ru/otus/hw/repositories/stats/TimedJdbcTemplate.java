@@ -0,0 +1,163 @@
+package ru.otus.hw.repositories.stats;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.StatementCallback;
+import org.springframework.jdbc.support.KeyHolder;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class TimedJdbcTemplate extends JdbcTemplate {
+
+    private final SqlStatistics sqlStatistics;
+
+    public TimedJdbcTemplate(DataSource dataSource, SqlStatistics sqlStatistics) {
+        super(dataSource);
+        this.sqlStatistics = sqlStatistics;
+    }
+
+    @Override
+    public <T> T query(PreparedStatementCreator psc, PreparedStatementSetter pss, ResultSetExtractor<T> rse)
+            throws DataAccessException {
+        long start = System.nanoTime();
+        var extractor = new FetchTimingExtractor<>(rse);
+        T result = super.query(psc, pss, extractor);
+        sqlStatistics.record(sqlOf(psc), System.nanoTime() - start - extractor.getProcessingNanos(),
+                extractor.getRowCount(), 0);
+        return result;
+    }
+
+    @Override
+    protected int update(PreparedStatementCreator psc, PreparedStatementSetter pss) throws DataAccessException {
+        long start = System.nanoTime();
+        int result = super.update(psc, pss);
+        recordSince(sqlOf(psc), start, result);
+        return result;
+    }
+
+    @Override
+    public int update(PreparedStatementCreator psc, KeyHolder generatedKeyHolder) throws DataAccessException {
+        long start = System.nanoTime();
+        int result = super.update(psc, generatedKeyHolder);
+        recordSince(sqlOf(psc), start, result);
+        return result;
+    }
+
+    @Override
+    public <T> T execute(PreparedStatementCreator psc, PreparedStatementCallback<T> action)
+            throws DataAccessException {
+        long start = System.nanoTime();
+        T result = super.execute(psc, action);
+        recordSince(sqlOf(psc), start, result);
+        return result;
+    }
+
+    @Override
+    public <T> T execute(String sql, PreparedStatementCallback<T> action) throws DataAccessException {
+        long start = System.nanoTime();
+        T result = super.execute(sql, action);
+        recordSince(sql, start, result);
+        return result;
+    }
+
+    @Override
+    public <T> T execute(StatementCallback<T> action) throws DataAccessException {
+        long start = System.nanoTime();
+        T result = super.execute(action);
+        recordSince(sqlOf(action), start, result);
+        return result;
+    }
+
+    @Override
+    public <T> Stream<T> queryForStream(PreparedStatementCreator psc, PreparedStatementSetter pss,
+                                        RowMapper<T> rowMapper) throws DataAccessException {
+        long start = System.nanoTime();
+        var rows = super.queryForStream(psc, pss, rowMapper);
+        var timedRows = new FetchTimedSpliterator<>(rows.spliterator(), System.nanoTime() - start);
+        return StreamSupport.stream(timedRows, false)
+                .onClose(rows::close)
+                .onClose(() -> sqlStatistics.record(sqlOf(psc), timedRows.elapsedNanos, timedRows.rowCount, 0));
+    }
+
+    private void recordSince(String sql, long start, Object result) {
+        record(sql, System.nanoTime() - start, result);
+    }
+
+    private void record(String sql, long elapsed, Object result) {
+        if (result instanceof int[] counts) {
+            sqlStatistics.record(sql, elapsed, sumOf(counts), counts.length);
+        } else if (result instanceof int[][] batches) {
+            long rows = 0;
+            int batchSize = 0;
+            for (int[] counts : batches) {
+                rows += sumOf(counts);
+                batchSize += counts.length;
+            }
+            sqlStatistics.record(sql, elapsed, rows, batchSize);
+        } else if (result instanceof Integer count) {
+            sqlStatistics.record(sql, elapsed, count, 0);
+        } else if (result instanceof Collection<?> collection) {
+            sqlStatistics.record(sql, elapsed, collection.size(), 0);
+        } else {
+            sqlStatistics.record(sql, elapsed, 0, 0);
+        }
+    }
+
+    private static long sumOf(int[] counts) {
+        long rows = 0;
+        for (int count : counts) {
+            if (count > 0) {
+                rows += count;
+            }
+        }
+        return rows;
+    }
+
+    private static final class FetchTimedSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final Spliterator<T> delegate;
+
+        private long elapsedNanos;
+
+        private long rowCount;
+
+        private T current;
+
+        private FetchTimedSpliterator(Spliterator<T> delegate, long executionNanos) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.delegate = delegate;
+            this.elapsedNanos = executionNanos;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            long start = System.nanoTime();
+            boolean advanced = delegate.tryAdvance(row -> current = row);
+            elapsedNanos += System.nanoTime() - start;
+            if (!advanced) {
+                return false;
+            }
+            rowCount++;
+            T row = current;
+            current = null;
+            action.accept(row);
+            return true;
+        }
+    }
+
+    private static String sqlOf(Object statementSource) {
+        return statementSource instanceof SqlProvider sqlProvider ? sqlProvider.getSql() : null;
+    }
+}
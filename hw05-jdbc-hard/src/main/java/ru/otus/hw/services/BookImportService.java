@@ -0,0 +1,7 @@
+package ru.otus.hw.services;
+
+import java.nio.file.Path;
+
+public interface BookImportService {
+    int importCsv(Path file);
+}
@@ -0,0 +1,92 @@
+package ru.otus.hw.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.otus.hw.dto.BookForm;
+import ru.otus.hw.exceptions.BookImportException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@RequiredArgsConstructor
+@Service
+public class BookImportServiceImpl implements BookImportService {
+
+    private static final int IMPORT_CHUNK_SIZE = 10_000;
+
+    private static final char COLUMN_SEPARATOR = ';';
+
+    private static final String GENRES_SEPARATOR = ",";
+
+    private static final String COMMENT_PREFIX = "#";
+
+    private final BookService bookService;
+
+    @Override
+    @Transactional
+    public int importCsv(Path file) {
+        int imported = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            var chunk = new ArrayList<BookForm>(IMPORT_CHUNK_SIZE);
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                chunk.add(parseLine(line, lineNumber));
+                if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                    imported += insertChunk(chunk);
+                }
+            }
+            imported += insertChunk(chunk);
+        } catch (IOException e) {
+            throw new BookImportException("Failed to read " + file, e);
+        }
+        return imported;
+    }
+
+    private int insertChunk(List<BookForm> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        int inserted = bookService.insertAll(chunk).size();
+        chunk.clear();
+        return inserted;
+    }
+
+    private BookForm parseLine(String line, int lineNumber) {
+        int genresStart = line.lastIndexOf(COLUMN_SEPARATOR);
+        int authorStart = genresStart > 0 ? line.lastIndexOf(COLUMN_SEPARATOR, genresStart - 1) : -1;
+        if (authorStart < 0) {
+            throw new BookImportException("Expected 'title;authorId;genreId,...' at line %d: %s"
+                    .formatted(lineNumber, line));
+        }
+        try {
+            long authorId = Long.parseLong(line.substring(authorStart + 1, genresStart).strip());
+            return new BookForm(line.substring(0, authorStart), authorId,
+                    parseGenresIds(line.substring(genresStart + 1)));
+        } catch (NumberFormatException e) {
+            throw new BookImportException("Invalid id at line %d: %s".formatted(lineNumber, line), e);
+        }
+    }
+
+    private Set<Long> parseGenresIds(String column) {
+        var genresIds = new LinkedHashSet<Long>();
+        for (var genreId : column.split(GENRES_SEPARATOR)) {
+            if (!genreId.isBlank()) {
+                genresIds.add(Long.parseLong(genreId.strip()));
+            }
+        }
+        return genresIds;
+    }
+}
@@ -1,18 +1,26 @@
 package ru.otus.hw.services;
 
+import ru.otus.hw.dto.BookForm;
 import ru.otus.hw.models.Book;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 public interface BookService {
     Optional<Book> findById(long id);
 
     List<Book> findAll();
 
+    List<Book> findPage(long afterId, int limit);
+
+    void forEach(Consumer<Book> action);
+
     Book insert(String title, long authorId, Set<Long> genresIds);
 
+    List<Book> insertAll(List<BookForm> books);
+
     Book update(long id, String title, long authorId, Set<Long> genresIds);
 
     void deleteById(long id);
@@ -3,15 +3,23 @@ package ru.otus.hw.services;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.otus.hw.dto.BookForm;
 import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Genre;
 import ru.otus.hw.repositories.AuthorRepository;
 import ru.otus.hw.repositories.BookRepository;
 import ru.otus.hw.repositories.GenreRepository;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.springframework.util.CollectionUtils.isEmpty;
 
@@ -36,12 +44,50 @@ public class BookServiceImpl implements BookService {
         return bookRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findPage(long afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return bookRepository.findPage(afterId, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<Book> action) {
+        bookRepository.forEach(action);
+    }
+
     @Override
     @Transactional
     public Book insert(String title, long authorId, Set<Long> genresIds) {
         return save(0, title, authorId, genresIds);
     }
 
+    @Override
+    @Transactional
+    public List<Book> insertAll(List<BookForm> books) {
+        books.forEach(book -> {
+            if (isEmpty(book.genresIds())) {
+                throw new IllegalArgumentException("Genres ids must not be null");
+            }
+        });
+
+        var authorIds = books.stream().map(BookForm::authorId).collect(Collectors.toSet());
+        var authorsById = authorRepository.findAllByIds(authorIds).stream()
+                .collect(Collectors.toMap(Author::getId, Function.identity()));
+        var genresIds = books.stream().flatMap(book -> book.genresIds().stream()).collect(Collectors.toSet());
+        var genresById = genreRepository.findAllByIds(genresIds).stream()
+                .collect(Collectors.toMap(Genre::getId, Function.identity()));
+
+        var newBooks = books.stream()
+                .map(book -> new Book(0, book.title(), getAuthor(authorsById, book.authorId()),
+                        getGenres(genresById, book.genresIds())))
+                .toList();
+        return bookRepository.insertAll(newBooks);
+    }
+
     @Override
     @Transactional
     public Book update(long id, String title, long authorId, Set<Long> genresIds) {
@@ -54,6 +100,26 @@ public class BookServiceImpl implements BookService {
         bookRepository.deleteById(id);
     }
 
+    private Author getAuthor(Map<Long, Author> authorsById, long authorId) {
+        var author = authorsById.get(authorId);
+        if (author == null) {
+            throw new EntityNotFoundException("Author with id %d not found".formatted(authorId));
+        }
+        return author;
+    }
+
+    private List<Genre> getGenres(Map<Long, Genre> genresById, Set<Long> genresIds) {
+        var genres = new ArrayList<Genre>(genresIds.size());
+        for (var genreId : genresIds) {
+            var genre = genresById.get(genreId);
+            if (genre == null) {
+                throw new EntityNotFoundException("One or all genres with ids %s not found".formatted(genresIds));
+            }
+            genres.add(genre);
+        }
+        return genres;
+    }
+
     private Book save(long id, String title, long authorId, Set<Long> genresIds) {
         if (isEmpty(genresIds)) {
             throw new IllegalArgumentException("Genres ids must not be null");
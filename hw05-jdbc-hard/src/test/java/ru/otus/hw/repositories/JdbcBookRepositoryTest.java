@@ -8,6 +8,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import ru.otus.hw.config.ReferenceCacheConfig;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
@@ -15,7 +17,9 @@ import ru.otus.hw.models.Genre;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,7 +28,7 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 
 @DisplayName("Репозиторий на основе Jdbc для работы с книгами ")
 @JdbcTest
-@Import({JdbcBookRepository.class, JdbcGenreRepository.class})
+@Import({JdbcBookRepository.class, JdbcGenreRepository.class, ReferenceCacheConfig.class})
 class JdbcBookRepositoryTest {
 
     @Autowired
@@ -33,6 +37,9 @@ class JdbcBookRepositoryTest {
     @Autowired
     private DataSource dataSource;
 
+    @Autowired
+    private NamedParameterJdbcTemplate jdbc;
+
     private List<Author> dbAuthors;
 
     private List<Genre> dbGenres;
@@ -66,6 +73,55 @@ class JdbcBookRepositoryTest {
         actualBooks.forEach(System.out::println);
     }
 
+    @DisplayName("должен потоково отдавать все книги одним упорядоченным запросом")
+    @Test
+    void shouldStreamAllBooks() {
+        repositoryJdbc.save(new Book(0L, "NoGenres", dbAuthors.get(0), List.of()));
+
+        try (var books = repositoryJdbc.streamAll()) {
+            var actualBooks = books.toList();
+            assertThat(actualBooks).hasSize(dbBooks.size() + 1)
+                    .startsWith(dbBooks.toArray(Book[]::new));
+            assertThat(actualBooks.get(dbBooks.size()).getGenres()).isEmpty();
+        }
+    }
+
+    @DisplayName("должен передавать в обработчик каждую книгу целиком по мере чтения")
+    @Test
+    void shouldPassEveryBookToCallback() {
+        var actualBooks = new ArrayList<Book>();
+
+        repositoryJdbc.forEach(actualBooks::add);
+
+        assertThat(actualBooks).containsExactlyElementsOf(dbBooks);
+    }
+
+    @DisplayName("должен отдавать только запрошенную часть потока книг")
+    @Test
+    void shouldStreamLazily() {
+        try (var books = repositoryJdbc.streamAll()) {
+            assertThat(books.limit(1)).containsExactly(dbBooks.get(0));
+        }
+    }
+
+    @DisplayName("должен загружать страницу книг после заданного id")
+    @Test
+    void shouldReturnPageAfterId() {
+        assertThat(repositoryJdbc.findPage(0, 2)).containsExactlyElementsOf(dbBooks.subList(0, 2));
+        assertThat(repositoryJdbc.findPage(2, 2)).containsExactly(dbBooks.get(2));
+        assertThat(repositoryJdbc.findPage(3, 2)).isEmpty();
+    }
+
+    @DisplayName("должен загружать страницу с книгой без жанров")
+    @Test
+    void shouldReturnPageWithBookWithoutGenres() {
+        var saved = repositoryJdbc.save(new Book(0L, "NoGenres", dbAuthors.get(0), List.of()));
+
+        assertThat(repositoryJdbc.findPage(dbBooks.size(), 10))
+                .singleElement()
+                .isEqualTo(saved);
+    }
+
     @DisplayName("должен сохранять новую книгу")
     @Test
     void shouldSaveNewBook() {
@@ -82,6 +138,22 @@ class JdbcBookRepositoryTest {
                 .isEqualTo(returnedBook);
     }
 
+    @DisplayName("должен пакетно сохранять новые книги вместе со связями с жанрами")
+    @Test
+    void shouldInsertAllBooks() {
+        var newBooks = IntStream.range(0, 2_500)
+                .mapToObj(i -> new Book(0, "Imported_" + i, dbAuthors.get(i % dbAuthors.size()),
+                        i % 10 == 0 ? List.of() : List.of(dbGenres.get(i % dbGenres.size()))))
+                .toList();
+
+        var saved = repositoryJdbc.insertAll(newBooks);
+
+        assertThat(saved).extracting(Book::getId).doesNotHaveDuplicates().allMatch(id -> id > dbBooks.size());
+        assertThat(repositoryJdbc.findById(saved.get(1).getId())).contains(newBooks.get(1));
+        assertThat(repositoryJdbc.findPage(dbBooks.size(), newBooks.size()))
+                .containsExactlyElementsOf(newBooks);
+    }
+
     @DisplayName("должен сохранять измененную книгу")
     @Test
     void shouldSaveUpdatedBook() {
@@ -202,6 +274,36 @@ class JdbcBookRepositoryTest {
                 .containsExactlyElementsOf(newGenres);
     }
 
+    @DisplayName("должен менять только изменившиеся связи с жанрами при обновлении книги")
+    @Test
+    void shouldUpdateOnlyChangedGenresRelations() {
+        var original = repositoryJdbc.findById(1L).orElseThrow();
+        var newGenres = List.of(dbGenres.get(1), dbGenres.get(2));
+        var keptRelationRowIdBefore = relationRowIds(1L, dbGenres.get(1).getId());
+
+        repositoryJdbc.save(new Book(original.getId(), "Renamed", original.getAuthor(), newGenres));
+
+        assertThat(relationRowIds(1L, dbGenres.get(0).getId())).isEmpty();
+        assertThat(relationRowIds(1L, dbGenres.get(1).getId())).isEqualTo(keptRelationRowIdBefore);
+        assertThat(repositoryJdbc.findById(1L).orElseThrow().getGenres())
+                .containsExactlyElementsOf(newGenres);
+    }
+
+    @DisplayName("должен удалять все связи с жанрами, если у книги не осталось жанров")
+    @Test
+    void shouldRemoveAllGenresRelationsOnUpdate() {
+        var original = repositoryJdbc.findById(1L).orElseThrow();
+
+        repositoryJdbc.save(new Book(original.getId(), original.getTitle(), original.getAuthor(), List.of()));
+
+        assertThat(repositoryJdbc.findById(1L).orElseThrow().getGenres()).isEmpty();
+    }
+
+    private List<Long> relationRowIds(long bookId, long genreId) {
+        return jdbc.queryForList("select _rowid_ from books_genres where book_id = :bookId and genre_id = :genreId",
+                Map.of("bookId", bookId, "genreId", genreId), Long.class);
+    }
+
     @DisplayName("findById должен возвращать книгу без жанров корректно")
     @Test
     void shouldReturnBookWithoutGenres() {
@@ -6,22 +6,29 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+import ru.otus.hw.config.ReferenceCacheConfig;
 import ru.otus.hw.models.Genre;
 
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("JdbcGenreRepository (@JdbcTest)")
 @JdbcTest
-@Import(JdbcGenreRepository.class)
+@Import({JdbcGenreRepository.class, ReferenceCacheConfig.class})
 class JdbcGenreRepositoryTest {
 
     @Autowired
     private JdbcGenreRepository repo;
 
+    @Autowired
+    private ReferenceCache<Genre> genreCache;
+
     @Nested
     @DisplayName("findAll()")
     class FindAll {
@@ -74,5 +81,51 @@ class JdbcGenreRepositoryTest {
             assertThat(out.get(0).getId()).isEqualTo(1L);
             assertThat(out.get(0).getName()).isEqualTo("Genre_1");
         }
+
+        @Test
+        @DisplayName("повторно отдает жанры из кэша без запроса к БД")
+        void returnsCachedGenresOnRepeatedLookup() {
+            repo.findAllByIds(Set.of(3L, 6L));
+            long hitsBefore = genreCache.getHitCount();
+            long missesBefore = genreCache.getMissCount();
+
+            List<Genre> out = repo.findAllByIds(new LinkedHashSet<>(List.of(6L, 3L)));
+
+            assertThat(out).extracting(Genre::getId).containsExactly(3L, 6L);
+            assertThat(genreCache.getHitCount() - hitsBefore).isEqualTo(2);
+            assertThat(genreCache.getMissCount()).isEqualTo(missesBefore);
+        }
+    }
+
+    @Nested
+    @DisplayName("инвалидация кэша")
+    class Invalidation {
+
+        @Autowired
+        private NamedParameterJdbcTemplate jdbc;
+
+        @Test
+        @DisplayName("findAll наполняет кэш для последующих поисков по id")
+        void findAllWarmsCache() {
+            genreCache.invalidateAll();
+            repo.findAll();
+            long missesBefore = genreCache.getMissCount();
+
+            assertThat(repo.findAllByIds(Set.of(1L, 6L))).extracting(Genre::getName)
+                    .containsExactly("Genre_1", "Genre_6");
+            assertThat(genreCache.getMissCount()).isEqualTo(missesBefore);
+        }
+
+        @Test
+        @DisplayName("сбрасывает строку, закэшированную внутри пишущей транзакции, после её завершения")
+        void dropsRowCachedBeforeWritingTransactionCompletes() {
+            jdbc.update("update genres set name = 'Renamed' where id = 2", Map.of());
+            genreCache.invalidateOnCompletion(2L);
+            assertThat(repo.findAll()).extracting(Genre::getName).contains("Renamed");
+
+            TestTransaction.end();
+
+            assertThat(repo.findAllByIds(Set.of(2L))).extracting(Genre::getName).containsExactly("Genre_2");
+        }
     }
 }
@@ -0,0 +1,146 @@
+package ru.otus.hw.repositories;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.otus.hw.models.Genre;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Кэш справочных данных")
+class ReferenceCacheTest {
+
+    private final List<Set<Long>> loadedIds = new ArrayList<>();
+
+    private final ReferenceCache<Genre> cache = new ReferenceCache<>("genres", 2, Genre::getId);
+
+    @DisplayName("должен загружать из источника только отсутствующие в кэше id")
+    @Test
+    void shouldLoadOnlyMissingIds() {
+        cache.getAll(Set.of(1L, 2L), this::load);
+
+        var genres = cache.getAll(Set.of(2L, 1L), this::load);
+
+        assertThat(genres).extracting(Genre::getId).containsExactly(1L, 2L);
+        assertThat(loadedIds).containsExactly(Set.of(1L, 2L));
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.getHitRate()).isEqualTo(0.5);
+    }
+
+    @DisplayName("должен вытеснять давно не использованные записи при превышении размера")
+    @Test
+    void shouldEvictLeastRecentlyUsedEntries() {
+        cache.getAll(Set.of(1L, 2L), this::load);
+        cache.get(1L, id -> Optional.empty());
+        cache.getAll(Set.of(3L), this::load);
+
+        cache.getAll(Set.of(1L, 2L), this::load);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(loadedIds).last().isEqualTo(Set.of(2L));
+    }
+
+    @DisplayName("должен загружать запись заново после инвалидации")
+    @Test
+    void shouldReloadInvalidatedEntry() {
+        cache.get(1L, this::loadOne);
+        cache.invalidate(1L);
+
+        assertThat(cache.get(1L, this::loadOne)).contains(new Genre(1L, "Genre_1"));
+        assertThat(loadedIds).hasSize(2);
+    }
+
+    @DisplayName("должен загружать одну запись один раз при одновременных промахах")
+    @Test
+    void shouldLoadConcurrentlyMissedEntryOnce() throws Exception {
+        var loadStarted = new CountDownLatch(1);
+        var releaseLoad = new CountDownLatch(1);
+        var loads = new AtomicInteger();
+        LongFunction<Optional<Genre>> slowLoader = id -> {
+            loads.incrementAndGet();
+            loadStarted.countDown();
+            await(releaseLoad);
+            return Optional.of(new Genre(id, "Genre_" + id));
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            var first = executor.submit(() -> cache.get(1L, slowLoader));
+            assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            var waiters = new ArrayList<Future<Optional<Genre>>>();
+            for (int i = 0; i < 3; i++) {
+                waiters.add(executor.submit(() -> cache.get(1L, slowLoader)));
+            }
+            Thread.sleep(100);
+            releaseLoad.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).contains(new Genre(1L, "Genre_1"));
+            for (var waiter : waiters) {
+                assertThat(waiter.get(5, TimeUnit.SECONDS)).contains(new Genre(1L, "Genre_1"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @DisplayName("не должен кэшировать значение, загруженное до инвалидации")
+    @Test
+    void shouldNotCacheValueLoadedBeforeInvalidation() {
+        cache.get(1L, id -> {
+            cache.invalidate(id);
+            return Optional.of(new Genre(id, "Stale"));
+        });
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(1L, this::loadOne)).contains(new Genre(1L, "Genre_1"));
+    }
+
+    @DisplayName("не должен кэшировать полный список, загруженный до инвалидации")
+    @Test
+    void shouldNotCacheFullListLoadedBeforeInvalidation() {
+        var loaded = cache.loadAll(() -> {
+            cache.invalidate(1L);
+            return List.of(new Genre(1L, "Stale"), new Genre(2L, "Genre_2"));
+        });
+
+        assertThat(loaded).extracting(Genre::getName).containsExactly("Stale", "Genre_2");
+        assertThat(cache.size()).isZero();
+    }
+
+    @DisplayName("не должен кэшировать отсутствующие записи")
+    @Test
+    void shouldNotCacheMissingEntries() {
+        assertThat(cache.get(42L, id -> Optional.empty())).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    private List<Genre> load(Set<Long> ids) {
+        loadedIds.add(Set.copyOf(ids));
+        return ids.stream().map(id -> new Genre(id, "Genre_" + id)).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Optional<Genre> loadOne(long id) {
+        loadedIds.add(Set.of(id));
+        return Optional.of(new Genre(id, "Genre_" + id));
+    }
+}
@@ -0,0 +1,38 @@
+package ru.otus.hw.repositories.stats;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Гистограмма задержек")
+class LatencyHistogramTest {
+
+    @DisplayName("должна относить каждое значение к корзине, верхняя граница которой не меньше значения")
+    @Test
+    void shouldPlaceValueIntoBucketWithinRelativeError() {
+        LongStream.of(0, 1, 7, 8, 15, 16, 17, 100, 1_000, 123_456, 10_000_000_000L).forEach(value -> {
+            long highest = LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(value));
+            assertThat(highest).isGreaterThanOrEqualTo(value).isLessThanOrEqualTo(value + value / 8);
+        });
+    }
+
+    @DisplayName("должна вычислять перцентили с точностью до корзины")
+    @Test
+    void shouldComputePercentiles() {
+        var histogram = new LatencyHistogram();
+        LongStream.rangeClosed(1, 1_000).forEach(histogram::recordMicros);
+
+        assertThat(histogram.percentileMicros(50)).isBetween(500L, 500L + 500 / 8);
+        assertThat(histogram.percentileMicros(99)).isBetween(990L, 990L + 990 / 8);
+        assertThat(histogram.percentileMicros(100)).isBetween(1_000L, 1_000L + 1_000 / 8);
+    }
+
+    @DisplayName("должна возвращать 0 для пустой гистограммы")
+    @Test
+    void shouldReturnZeroWhenEmpty() {
+        assertThat(new LatencyHistogram().percentileMicros(99)).isZero();
+    }
+}
@@ -0,0 +1,124 @@
+package ru.otus.hw.repositories.stats;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import ru.otus.hw.config.ReferenceCacheConfig;
+import ru.otus.hw.config.SqlStatisticsConfig;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Genre;
+import ru.otus.hw.repositories.JdbcAuthorRepository;
+import ru.otus.hw.repositories.JdbcBookRepository;
+import ru.otus.hw.repositories.JdbcGenreRepository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Сбор статистики выполнения SQL")
+@JdbcTest
+@Import({SqlStatisticsConfig.class, ReferenceCacheConfig.class,
+        JdbcBookRepository.class, JdbcAuthorRepository.class, JdbcGenreRepository.class})
+class TimedJdbcTemplateTest {
+
+    private static final long CONSUMER_PAUSE_MICROS = 50_000;
+
+    @Autowired
+    private SqlStatistics sqlStatistics;
+
+    @Autowired
+    private JdbcBookRepository bookRepository;
+
+    @Autowired
+    private JdbcAuthorRepository authorRepository;
+
+    @BeforeEach
+    void setUp() {
+        sqlStatistics.reset();
+    }
+
+    @DisplayName("должен учитывать запросы, количество строк и размер пакетов")
+    @Test
+    void shouldRecordQueriesAndBatches() {
+        bookRepository.findAll();
+        bookRepository.findAll();
+        bookRepository.insertAll(List.of(
+                new Book(0, "Batch_1", new Author(1, "Author_1"), List.of(new Genre(1, "Genre_1"))),
+                new Book(0, "Batch_2", new Author(2, "Author_2"), List.of(new Genre(2, "Genre_2")))));
+
+        var stats = sqlStatistics.findTopByTotalTime(10);
+
+        assertThat(stats).anySatisfy(statement -> {
+            assertThat(statement.getSql()).contains("from books b").contains("order by b.id, g.id");
+            assertThat(statement.getExecutions()).isEqualTo(2);
+            assertThat(statement.getTotalMicros()).isPositive();
+        });
+        assertThat(stats).anySatisfy(statement -> {
+            assertThat(statement.getSql()).startsWith("insert into books(");
+            assertThat(statement.getRows()).isEqualTo(2);
+            assertThat(statement.getBatchItems()).isEqualTo(2);
+        });
+        assertThat(stats).extracting(SqlStatementStats::getTotalMicros)
+                .isSortedAccordingTo((first, second) -> Long.compare(second, first));
+    }
+
+    @DisplayName("должен объединять запросы с IN-списками разной длины")
+    @Test
+    void shouldMergeInListsOfDifferentSize() {
+        authorRepository.findAllByIds(Set.of(101L));
+        authorRepository.findAllByIds(Set.of(102L, 103L, 104L));
+
+        assertThat(sqlStatistics.findTopByTotalTime(10))
+                .filteredOn(statement -> statement.getSql().contains("from authors where id in"))
+                .singleElement()
+                .satisfies(statement -> {
+                    assertThat(statement.getSql()).contains("in (?...)");
+                    assertThat(statement.getExecutions()).isEqualTo(2);
+                });
+    }
+
+    @DisplayName("не должен учитывать время обработки строк потребителем")
+    @Test
+    void shouldExcludeConsumerTimeFromQueryLatency() {
+        bookRepository.forEach(book -> pause());
+        try (var books = bookRepository.streamAll()) {
+            books.forEach(book -> pause());
+        }
+
+        assertThat(sqlStatistics.findTopByTotalTime(10))
+                .filteredOn(statement -> statement.getSql().contains("order by b.id, g.id"))
+                .singleElement()
+                .satisfies(statement -> {
+                    assertThat(statement.getExecutions()).isEqualTo(2);
+                    assertThat(statement.getRows()).isEqualTo(12);
+                    assertThat(statement.getTotalMicros()).isLessThan(CONSUMER_PAUSE_MICROS * 3);
+                });
+    }
+
+    @DisplayName("должен начинать сбор заново после сброса")
+    @Test
+    void shouldStartFromScratchAfterReset() {
+        authorRepository.findAllByIds(Set.of(201L));
+
+        sqlStatistics.reset();
+        authorRepository.findAllByIds(Set.of(202L));
+
+        assertThat(sqlStatistics.findTopByTotalTime(10))
+                .singleElement()
+                .satisfies(statement -> assertThat(statement.getExecutions()).isEqualTo(1));
+    }
+
+    private static void pause() {
+        try {
+            TimeUnit.MICROSECONDS.sleep(CONSUMER_PAUSE_MICROS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package ru.otus.hw.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import ru.otus.hw.config.ReferenceCacheConfig;
+import ru.otus.hw.exceptions.BookImportException;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Genre;
+import ru.otus.hw.repositories.JdbcAuthorRepository;
+import ru.otus.hw.repositories.JdbcBookRepository;
+import ru.otus.hw.repositories.JdbcGenreRepository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Сервис импорта книг из CSV")
+@JdbcTest
+@Import({BookImportServiceImpl.class, BookServiceImpl.class, JdbcBookRepository.class,
+        JdbcAuthorRepository.class, JdbcGenreRepository.class, ReferenceCacheConfig.class})
+class BookImportServiceImplTest {
+
+    private static final int ROWS_OVER_ONE_CHUNK = 10_001;
+
+    @Autowired
+    private BookImportService bookImportService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbc;
+
+    @TempDir
+    private Path dir;
+
+    @DisplayName("должен импортировать строки, пропуская комментарии и пустые строки")
+    @Test
+    void shouldImportRowsSkippingCommentsAndBlankLines() throws IOException {
+        var file = csv("""
+                # title;authorId;genreId,...
+                Plain title;1;1
+
+                Title; with; separators;2; 3 , 4 ,
+                """);
+
+        int imported = bookImportService.importCsv(file);
+
+        assertThat(imported).isEqualTo(2);
+        var importedBooks = bookService.findAll().stream()
+                .filter(book -> book.getId() > 3)
+                .toList();
+        assertThat(importedBooks).extracting(Book::getTitle)
+                .containsExactly("Plain title", "Title; with; separators");
+        assertThat(importedBooks.get(0).getAuthor().getId()).isEqualTo(1);
+        assertThat(importedBooks.get(1).getAuthor().getId()).isEqualTo(2);
+        assertThat(importedBooks.get(1).getGenres()).extracting(Genre::getId).containsExactly(3L, 4L);
+    }
+
+    @DisplayName("должен сообщать номер строки с неверным форматом и ничего не сохранять")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldRejectMalformedRowWithoutImportingAnything() throws IOException {
+        var file = csv("""
+                # header
+                Good book;1;1
+                No columns at all
+                """);
+
+        assertThatThrownBy(() -> bookImportService.importCsv(file))
+                .isInstanceOf(BookImportException.class)
+                .hasMessageContaining("line 3");
+        assertThat(booksCount()).isEqualTo(3);
+    }
+
+    @DisplayName("должен сообщать о нечисловом id и ничего не сохранять")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldRejectNonNumericIdWithoutImportingAnything() throws IOException {
+        var file = csv("""
+                Good book;1;1
+                Bad genre;1;one
+                """);
+
+        assertThatThrownBy(() -> bookImportService.importCsv(file))
+                .isInstanceOf(BookImportException.class)
+                .hasMessageContaining("line 2");
+        assertThat(booksCount()).isEqualTo(3);
+    }
+
+    @DisplayName("должен отклонять импорт с несуществующим автором")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldRejectUnknownAuthor() throws IOException {
+        var file = csv("""
+                Good book;1;1
+                Orphan;42;1
+                """);
+
+        assertThatThrownBy(() -> bookImportService.importCsv(file))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("Author with id 42");
+        assertThat(booksCount()).isEqualTo(3);
+    }
+
+    @DisplayName("должен отклонять импорт с несуществующим жанром")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldRejectUnknownGenre() throws IOException {
+        var file = csv("""
+                Good book;1;1
+                Unknown genre;1;1,42
+                """);
+
+        assertThatThrownBy(() -> bookImportService.importCsv(file))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("42");
+        assertThat(booksCount()).isEqualTo(3);
+    }
+
+    @DisplayName("должен откатывать уже вставленные пачки, если ошибка найдена в следующей")
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldRollBackEarlierChunksWhenLaterChunkFails() throws IOException {
+        var rows = IntStream.range(0, ROWS_OVER_ONE_CHUNK)
+                .mapToObj(i -> "Book " + i + ";1;1")
+                .collect(Collectors.joining("\n", "", "\nOrphan;42;1\n"));
+
+        assertThatThrownBy(() -> bookImportService.importCsv(csv(rows)))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThat(booksCount()).isEqualTo(3);
+        assertThat(jdbc.queryForObject("select count(*) from books_genres", Map.of(), Long.class))
+                .isEqualTo(6);
+    }
+
+    private Path csv(String content) throws IOException {
+        var file = Files.createTempFile(dir, "books", ".csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private long booksCount() {
+        return jdbc.queryForObject("select count(*) from books", Map.of(), Long.class);
+    }
+}
@@ -0,0 +1,89 @@
+package ru.otus.hw.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.h2.tools.Server;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.otus.hw.Application;
+import ru.otus.hw.services.CommentService;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CommentImportBenchmark {
+
+    private static final long BOOK_ID = 1L;
+
+    @Param({"1", "50"})
+    private int jdbcBatchSize;
+
+    @Param({"10000"})
+    private int commentsCount;
+
+    private Server databaseServer;
+
+    private ConfigurableApplicationContext context;
+
+    private CommentService commentService;
+
+    private List<String> texts;
+
+    @Setup
+    public void setUp() throws SQLException {
+        databaseServer = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        var url = "jdbc:h2:tcp://localhost:%d/mem:comments;DB_CLOSE_DELAY=-1".formatted(databaseServer.getPort());
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=warn",
+                        "spring.shell.interactive.enabled=false",
+                        "spring.shell.script.enabled=false",
+                        "spring.datasource.url=" + url,
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize)
+                .run();
+        commentService = context.getBean(CommentService.class);
+        texts = IntStream.range(0, commentsCount)
+                .mapToObj("Benchmark comment #%d"::formatted)
+                .toList();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteImportedComments() {
+        context.getBean(JdbcTemplate.class).update("delete from comments where text like 'Benchmark comment #%'");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        databaseServer.stop();
+    }
+
+    @Benchmark
+    public int insertAll() {
+        return commentService.insertAll(BOOK_ID, texts);
+    }
+}
@@ -1,12 +1,19 @@
 package ru.otus.hw.commands;
 
 import lombok.RequiredArgsConstructor;
+import org.jline.terminal.Terminal;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
 import ru.otus.hw.converters.BookConverter;
+import ru.otus.hw.models.Book;
 import ru.otus.hw.services.BookService;
+import ru.otus.hw.services.CommentStatsRepairService;
 
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @SuppressWarnings({"SpellCheckingInspection", "unused"})
@@ -14,15 +21,52 @@ import java.util.stream.Collectors;
 @ShellComponent
 public class BookCommands {
 
+    private static final int OUTPUT_FLUSH_THRESHOLD = 8192;
+
     private final BookService bookService;
 
+    private final CommentStatsRepairService commentStatsRepairService;
+
     private final BookConverter bookConverter;
 
+    private final Terminal terminal;
+
     @ShellMethod(value = "Find all books", key = "ab")
-    public String findAllBooks() {
-        return bookService.findAll().stream()
+    public void findAllBooks() {
+        printBooks(bookService::forEach);
+    }
+
+    @ShellMethod(value = "Find books page", key = "abp")
+    public String findBooksPage(@ShellOption(defaultValue = "0") int page,
+                                @ShellOption(defaultValue = "20") int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page number must not be negative");
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        var books = bookService.findAll(PageRequest.of(page, size));
+        var pageString = books.stream()
                 .map(bookConverter::bookToString)
                 .collect(Collectors.joining("," + System.lineSeparator()));
+        var footer = "Page %d of %d, %d books total".formatted(
+                books.getNumber() + 1, books.getTotalPages(), books.getTotalElements());
+        if (books.hasNext()) {
+            footer += System.lineSeparator() + "Next page: abp --page %d --size %d".formatted(page + 1, size);
+        }
+        return pageString.isEmpty() ? footer : pageString + System.lineSeparator() + footer;
+    }
+
+    @ShellMethod(value = "Find most commented books", key = "abpop")
+    public String findMostCommentedBooks(@ShellOption(defaultValue = "10") int limit) {
+        return bookService.findMostCommented(limit).stream()
+                .map(bookConverter::bookToString)
+                .collect(Collectors.joining("," + System.lineSeparator()));
+    }
+
+    @ShellMethod(value = "Recompute comment counters of all books", key = "bcrepair")
+    public String repairCommentStats() {
+        return "Recomputed comment counters of %d books".formatted(commentStatsRepairService.repairAll());
     }
 
     @ShellMethod(value = "Find book by id", key = "bbid")
@@ -45,7 +89,29 @@ public class BookCommands {
     }
 
     @ShellMethod(value = "Delete book by id", key = "bdel")
-    public void deleteBook(long id) {
-        bookService.deleteById(id);
+    public String deleteBook(long id) {
+        var deletion = bookService.deleteById(id);
+        return "Deleted %d book(s), %d comments and %d genre links"
+                .formatted(deletion.books(), deletion.comments(), deletion.genreLinks());
+    }
+
+    private void printBooks(Consumer<Consumer<Book>> books) {
+        var writer = terminal.writer();
+        var buffer = new StringBuilder(OUTPUT_FLUSH_THRESHOLD);
+        var printed = new AtomicLong();
+        books.accept(book -> {
+            if (printed.getAndIncrement() > 0) {
+                buffer.append(',').append(System.lineSeparator());
+            }
+            bookConverter.appendBook(buffer, book);
+            if (printed.get() == 1 || buffer.length() >= OUTPUT_FLUSH_THRESHOLD) {
+                writer.append(buffer).flush();
+                buffer.setLength(0);
+            }
+        });
+        if (printed.get() > 0) {
+            writer.append(buffer).println();
+        }
+        writer.flush();
     }
 }
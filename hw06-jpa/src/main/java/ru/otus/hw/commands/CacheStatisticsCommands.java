@@ -0,0 +1,39 @@
+package ru.otus.hw.commands;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.shell.standard.ShellComponent;
+import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+@SuppressWarnings({"SpellCheckingInspection", "unused"})
+@RequiredArgsConstructor
+@ShellComponent
+public class CacheStatisticsCommands {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @ShellMethod(value = "Show second-level cache statistics", key = "l2s")
+    public String showCacheStatistics(@ShellOption(defaultValue = "false") boolean reset) {
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        var regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(statistics::getCacheRegionStatistics)
+                .map(region -> "Region %s: hits %d, misses %d, puts %d".formatted(
+                        region.getRegionName(), region.getHitCount(), region.getMissCount(),
+                        region.getPutCount()))
+                .collect(Collectors.joining(System.lineSeparator()));
+        var summary = "Query cache: hits %d, misses %d, puts %d%sStatements prepared: %d".formatted(
+                statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount(), System.lineSeparator(),
+                statistics.getPrepareStatementCount());
+        if (reset) {
+            statistics.clear();
+        }
+        return regions + System.lineSeparator() + summary;
+    }
+}
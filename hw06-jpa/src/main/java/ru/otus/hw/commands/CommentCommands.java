@@ -4,8 +4,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
 import ru.otus.hw.converters.CommentConverter;
+import ru.otus.hw.services.CommentImportService;
 import ru.otus.hw.services.CommentService;
 
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -14,6 +19,8 @@ public class CommentCommands {
 
     private final CommentService commentService;
 
+    private final CommentImportService commentImportService;
+
     private final CommentConverter commentConverter;
 
     @ShellMethod(value = "Find comment by id", key = "cbid")
@@ -37,6 +44,15 @@ public class CommentCommands {
         return commentConverter.commentToString(saved);
     }
 
+    @ShellMethod(value = "Import comments for book from file, one per line (bookId, file)", key = "cimp")
+    public String importComments(long bookId, String file) {
+        long started = System.nanoTime();
+        int imported = commentImportService.importLines(bookId, Path.of(file));
+        long elapsedMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), 1);
+        return "Imported %d comments in %d ms (%d comments/s)"
+                .formatted(imported, elapsedMillis, imported * 1000L / elapsedMillis);
+    }
+
     @ShellMethod(value = "Update comment (id, text)", key = "cupd")
     public String updateComment(long id, String text) {
         var updated = commentService.update(id, text);
@@ -47,4 +63,14 @@ public class CommentCommands {
     public void deleteComment(long id) {
         commentService.deleteById(id);
     }
+
+    @ShellMethod(value = "Delete comments by ids", key = "cdelm")
+    public String deleteComments(Set<Long> ids) {
+        return "Deleted %d comments".formatted(commentService.deleteByIds(ids));
+    }
+
+    @ShellMethod(value = "Delete comments created before date-time (e.g. 2025-01-01T00:00)", key = "cpurge")
+    public String deleteCommentsCreatedBefore(String before) {
+        return "Deleted %d comments".formatted(commentService.deleteCreatedBefore(LocalDateTime.parse(before)));
+    }
 }
\ No newline at end of file
@@ -6,6 +6,11 @@ import ru.otus.hw.models.Author;
 @Component
 public class AuthorConverter {
     public String authorToString(Author author) {
-        return "Id: %d, FullName: %s".formatted(author.getId(), author.getFullName());
+        return appendAuthor(new StringBuilder(), author).toString();
+    }
+
+    public StringBuilder appendAuthor(StringBuilder target, Author author) {
+        return target.append("Id: ").append(author.getId())
+                .append(", FullName: ").append(author.getFullName());
     }
 }
@@ -0,0 +1,4 @@
+package ru.otus.hw.dto;
+
+public record BookDeletion(int books, int comments, int genreLinks) {
+}
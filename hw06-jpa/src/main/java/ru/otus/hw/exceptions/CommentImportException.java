@@ -0,0 +1,7 @@
+package ru.otus.hw.exceptions;
+
+public class CommentImportException extends RuntimeException {
+    public CommentImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
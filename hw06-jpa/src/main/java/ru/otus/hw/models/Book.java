@@ -3,6 +3,7 @@ package ru.otus.hw.models;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Column;
@@ -19,6 +20,7 @@ import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.hibernate.annotations.BatchSize;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -33,7 +35,8 @@ import java.util.List;
 public class Book {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "books_seq")
+    @SequenceGenerator(name = "books_seq", sequenceName = "books_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     @ToString.Include
     private Long id;
@@ -55,6 +58,12 @@ public class Book {
     @BatchSize(size = 16)
     private List<Genre> genres = new ArrayList<>();
 
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private long commentCount;
+
+    @Column(name = "last_commented_at", insertable = false, updatable = false)
+    private LocalDateTime lastCommentedAt;
+
     public Book(String title, Author author, List<Genre> genres) {
         this.title = title;
         this.author = author;
@@ -1,16 +1,36 @@
 package ru.otus.hw.repositories;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import ru.otus.hw.dto.BookDeletion;
 import ru.otus.hw.models.Book;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface BookRepository {
     Optional<Book> findById(long id);
 
     List<Book> findAll();
 
+    Page<Book> findAll(Pageable pageable);
+
+    void forEach(Consumer<Book> action);
+
+    List<Book> findMostCommented(int limit);
+
+    List<Long> findIdsAfter(long afterId, int limit);
+
     Book save(Book book);
 
-    void deleteById(long id);
+    BookDeletion deleteById(long id);
+
+    void incrementCommentCount(long id, int delta, LocalDateTime commentedAt);
+
+    void decrementCommentCount(long id);
+
+    int recomputeCommentStats(Collection<Long> ids);
 }
\ No newline at end of file
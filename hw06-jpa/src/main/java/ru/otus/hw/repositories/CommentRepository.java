@@ -2,6 +2,8 @@ package ru.otus.hw.repositories;
 
 import ru.otus.hw.models.Comment;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,7 +12,17 @@ public interface CommentRepository {
 
     List<Comment> findByBookId(long bookId);
 
+    List<Long> findBookIdsByIds(Collection<Long> ids);
+
+    List<Long> findBookIdsCreatedBefore(LocalDateTime createdAt);
+
     Comment save(Comment comment);
 
-    void deleteById(long id);
+    void insertAll(List<Comment> comments);
+
+    int deleteById(long id);
+
+    int deleteByIds(Collection<Long> ids);
+
+    int deleteCreatedBefore(LocalDateTime createdAt);
 }
\ No newline at end of file
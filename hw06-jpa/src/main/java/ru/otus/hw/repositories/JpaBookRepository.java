@@ -2,16 +2,40 @@ package ru.otus.hw.repositories;
 
 import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import ru.otus.hw.dto.BookDeletion;
 import ru.otus.hw.models.Book;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 @AllArgsConstructor
 public class JpaBookRepository implements BookRepository  {
 
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private static final int IDS_CHUNK_SIZE = 1000;
+
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "id", "b.id",
+            "title", "b.title",
+            "commentCount", "b.commentCount",
+            "lastCommentedAt", "b.lastCommentedAt");
+
     private final EntityManager entityManager;
 
     @Override
@@ -24,6 +48,61 @@ public class JpaBookRepository implements BookRepository  {
                 .getResultList();
     }
 
+    @Override
+    public Page<Book> findAll(Pageable pageable) {
+        var orderBy = orderBy(pageable.getSort());
+        var ids = entityManager.createQuery("select b.id from Book b " + orderBy, Long.class)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        var books = ids.isEmpty() ? List.<Book>of() : entityManager.createQuery(
+                        "select b from Book b " +
+                                "left join fetch b.author " +
+                                "left join fetch b.genres " +
+                                "where b.id in :ids " +
+                                orderBy, Book.class)
+                .setParameter("ids", ids)
+                .getResultList();
+        return PageableExecutionUtils.getPage(books, pageable, () -> entityManager.createQuery(
+                        "select count(b) from Book b", Long.class)
+                .getSingleResult());
+    }
+
+    @Override
+    public void forEach(Consumer<Book> action) {
+        var query = entityManager.createQuery(
+                        "select b from Book b " +
+                                "left join fetch b.author " +
+                                "left join fetch b.genres " +
+                                "order by b.id", Book.class)
+                .setHint(HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HINT_READ_ONLY, true);
+        try (var books = query.getResultStream()) {
+            books.forEach(book -> {
+                action.accept(book);
+                entityManager.detach(book);
+            });
+        }
+    }
+
+    @Override
+    public List<Book> findMostCommented(int limit) {
+        return entityManager.createQuery(
+                        "select b from Book b " +
+                                "join fetch b.author " +
+                                "order by b.commentCount desc, b.id", Book.class)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> findIdsAfter(long afterId, int limit) {
+        return entityManager.createQuery("select b.id from Book b where b.id > :afterId order by b.id", Long.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
     @Override
     public Optional<Book> findById(long id) {
         var list = entityManager.createQuery(
@@ -47,10 +126,74 @@ public class JpaBookRepository implements BookRepository  {
     }
 
     @Override
-    public void deleteById(long id) {
-        Book ref = entityManager.find(Book.class, id);
-        if (ref != null) {
-            entityManager.remove(ref);
+    public BookDeletion deleteById(long id) {
+        entityManager.flush();
+        int comments = entityManager.createQuery("delete from Comment c where c.book.id = :id")
+                .setParameter("id", id)
+                .executeUpdate();
+        int genreLinks = entityManager.createNativeQuery("delete from books_genres where book_id = :id")
+                .setParameter("id", id)
+                .executeUpdate();
+        int books = entityManager.createNativeQuery("delete from books where id = :id")
+                .setParameter("id", id)
+                .executeUpdate();
+        entityManager.clear();
+        return new BookDeletion(books, comments, genreLinks);
+    }
+
+    @Override
+    public void incrementCommentCount(long id, int delta, LocalDateTime commentedAt) {
+        entityManager.createQuery(
+                        "update Book b set b.commentCount = b.commentCount + :delta, " +
+                                "b.lastCommentedAt = case " +
+                                "when b.lastCommentedAt is null or b.lastCommentedAt < :commentedAt " +
+                                "then :commentedAt else b.lastCommentedAt end " +
+                                "where b.id = :id")
+                .setParameter("delta", delta)
+                .setParameter("commentedAt", commentedAt)
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    @Override
+    public void decrementCommentCount(long id) {
+        entityManager.createQuery(
+                        "update Book b set b.commentCount = b.commentCount - 1, " +
+                                "b.lastCommentedAt = (select max(c.createdAt) from Comment c where c.book.id = b.id) " +
+                                "where b.id = :id")
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    @Override
+    public int recomputeCommentStats(Collection<Long> ids) {
+        var distinctIds = List.copyOf(Set.copyOf(ids));
+        int updated = 0;
+        for (int from = 0; from < distinctIds.size(); from += IDS_CHUNK_SIZE) {
+            var chunk = distinctIds.subList(from, Math.min(from + IDS_CHUNK_SIZE, distinctIds.size()));
+            updated += entityManager.createQuery(
+                            "update Book b set " +
+                                    "b.commentCount = (select count(c) from Comment c where c.book.id = b.id), " +
+                                    "b.lastCommentedAt = (select max(c.createdAt) from Comment c where c.book.id = b.id) " +
+                                    "where b.id in :ids")
+                    .setParameter("ids", chunk)
+                    .executeUpdate();
+        }
+        return updated;
+    }
+
+    private static String orderBy(Sort sort) {
+        var orderBy = new StringJoiner(", ", "order by ", "");
+        for (var order : sort) {
+            var path = SORTABLE_PROPERTIES.get(order.getProperty());
+            if (path == null) {
+                throw new IllegalArgumentException("Books cannot be sorted by " + order.getProperty());
+            }
+            orderBy.add(path + (order.isAscending() ? " asc" : " desc"));
+        }
+        if (sort.getOrderFor("id") == null) {
+            orderBy.add("b.id");
         }
+        return orderBy.toString();
     }
-}
\ No newline at end of file
+}
@@ -5,13 +5,21 @@ import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Repository;
 import ru.otus.hw.models.Comment;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 @AllArgsConstructor
 public class JpaCommentRepository implements CommentRepository {
 
+    private static final int INSERT_FLUSH_SIZE = 1000;
+
+    private static final int IDS_CHUNK_SIZE = 1000;
+
     private final EntityManager entityManager;
 
     @Override
@@ -30,6 +38,28 @@ public class JpaCommentRepository implements CommentRepository {
                 .getResultList();
     }
 
+    @Override
+    public List<Long> findBookIdsByIds(Collection<Long> ids) {
+        var distinctIds = List.copyOf(Set.copyOf(ids));
+        var bookIds = new LinkedHashSet<Long>();
+        for (int from = 0; from < distinctIds.size(); from += IDS_CHUNK_SIZE) {
+            var chunk = distinctIds.subList(from, Math.min(from + IDS_CHUNK_SIZE, distinctIds.size()));
+            bookIds.addAll(entityManager.createQuery(
+                            "select distinct c.book.id from Comment c where c.id in :ids", Long.class)
+                    .setParameter("ids", chunk)
+                    .getResultList());
+        }
+        return List.copyOf(bookIds);
+    }
+
+    @Override
+    public List<Long> findBookIdsCreatedBefore(LocalDateTime createdAt) {
+        return entityManager.createQuery(
+                        "select distinct c.book.id from Comment c where c.createdAt < :createdAt", Long.class)
+                .setParameter("createdAt", createdAt)
+                .getResultList();
+    }
+
     @Override
     public Comment save(Comment comment) {
         final Long id = comment.getId();
@@ -41,10 +71,42 @@ public class JpaCommentRepository implements CommentRepository {
     }
 
     @Override
-    public void deleteById(long id) {
-        Comment ref = entityManager.find(Comment.class, id);
-        if (ref != null) {
-            entityManager.remove(ref);
+    public void insertAll(List<Comment> comments) {
+        for (int from = 0; from < comments.size(); from += INSERT_FLUSH_SIZE) {
+            var batch = comments.subList(from, Math.min(from + INSERT_FLUSH_SIZE, comments.size()));
+            batch.forEach(entityManager::persist);
+            entityManager.flush();
+            batch.forEach(entityManager::detach);
         }
     }
+
+    @Override
+    public int deleteById(long id) {
+        return deleteByIds(List.of(id));
+    }
+
+    @Override
+    public int deleteByIds(Collection<Long> ids) {
+        entityManager.flush();
+        var distinctIds = List.copyOf(Set.copyOf(ids));
+        int deleted = 0;
+        for (int from = 0; from < distinctIds.size(); from += IDS_CHUNK_SIZE) {
+            var chunk = distinctIds.subList(from, Math.min(from + IDS_CHUNK_SIZE, distinctIds.size()));
+            deleted += entityManager.createQuery("delete from Comment c where c.id in :ids")
+                    .setParameter("ids", chunk)
+                    .executeUpdate();
+        }
+        entityManager.clear();
+        return deleted;
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime createdAt) {
+        entityManager.flush();
+        int deleted = entityManager.createQuery("delete from Comment c where c.createdAt < :createdAt")
+                .setParameter("createdAt", createdAt)
+                .executeUpdate();
+        entityManager.clear();
+        return deleted;
+    }
 }
\ No newline at end of file
@@ -9,6 +9,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
 public class JpaGenreRepository implements GenreRepository {
 
@@ -23,6 +25,7 @@ public class JpaGenreRepository implements GenreRepository {
     @Override
     public List<Genre> findAll() {
         return entityManager.createQuery("select g from Genre g order by g.id", Genre.class)
+                .setHint(HINT_CACHEABLE, true)
                 .getResultList();
     }
 
@@ -1,19 +1,29 @@
 package ru.otus.hw.services;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import ru.otus.hw.dto.BookDeletion;
 import ru.otus.hw.models.Book;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 public interface BookService {
     Optional<Book> findById(long id);
 
     List<Book> findAll();
 
+    Page<Book> findAll(Pageable pageable);
+
+    void forEach(Consumer<Book> action);
+
+    List<Book> findMostCommented(int limit);
+
     Book insert(String title, long authorId, Set<Long> genresIds);
 
     Book update(long id, String title, long authorId, Set<Long> genresIds);
 
-    void deleteById(long id);
+    BookDeletion deleteById(long id);
 }
@@ -1,8 +1,11 @@
 package ru.otus.hw.services;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.otus.hw.dto.BookDeletion;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.models.Genre;
@@ -13,6 +16,7 @@ import ru.otus.hw.repositories.GenreRepository;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.springframework.util.CollectionUtils.isEmpty;
 
@@ -38,6 +42,27 @@ public class BookServiceImpl implements BookService {
         return bookRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Book> findAll(Pageable pageable) {
+        return bookRepository.findAll(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<Book> action) {
+        bookRepository.forEach(action);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findMostCommented(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return bookRepository.findMostCommented(limit);
+    }
+
     @Override
     @Transactional
     public Book insert(String title, long authorId, Set<Long> genresIds) {
@@ -80,8 +105,8 @@ public class BookServiceImpl implements BookService {
 
     @Override
     @Transactional
-    public void deleteById(long id) {
-        bookRepository.deleteById(id);
+    public BookDeletion deleteById(long id) {
+        return bookRepository.deleteById(id);
     }
 
     private List<Genre> findGenresOrThrow(Set<Long> genresIds) {
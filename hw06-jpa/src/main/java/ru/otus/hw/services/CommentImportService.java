@@ -0,0 +1,7 @@
+package ru.otus.hw.services;
+
+import java.nio.file.Path;
+
+public interface CommentImportService {
+    int importLines(long bookId, Path file);
+}
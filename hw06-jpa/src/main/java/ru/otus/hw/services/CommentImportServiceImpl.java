@@ -0,0 +1,53 @@
+package ru.otus.hw.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ru.otus.hw.exceptions.CommentImportException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Service
+public class CommentImportServiceImpl implements CommentImportService {
+
+    private static final int IMPORT_CHUNK_SIZE = 10_000;
+
+    private final CommentService commentService;
+
+    @Override
+    public int importLines(long bookId, Path file) {
+        int imported = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            var chunk = new ArrayList<String>(IMPORT_CHUNK_SIZE);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.add(line.strip());
+                if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                    imported += insertChunk(bookId, chunk);
+                }
+            }
+            imported += insertChunk(bookId, chunk);
+        } catch (IOException e) {
+            throw new CommentImportException("Failed to read " + file, e);
+        }
+        return imported;
+    }
+
+    private int insertChunk(long bookId, List<String> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        int inserted = commentService.insertAll(bookId, chunk);
+        chunk.clear();
+        return inserted;
+    }
+}
@@ -2,8 +2,10 @@ package ru.otus.hw.services;
 
 import ru.otus.hw.models.Comment;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CommentService {
     Optional<Comment> findById(long id);
@@ -12,7 +14,13 @@ public interface CommentService {
 
     Comment insert(long bookId, String text);
 
+    int insertAll(long bookId, List<String> texts);
+
     Comment update(long id, String text);
 
     void deleteById(long id);
+
+    int deleteByIds(Set<Long> ids);
+
+    int deleteCreatedBefore(LocalDateTime createdAt);
 }
\ No newline at end of file
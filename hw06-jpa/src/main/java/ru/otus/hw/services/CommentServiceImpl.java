@@ -8,8 +8,13 @@ import ru.otus.hw.models.Comment;
 import ru.otus.hw.repositories.BookRepository;
 import ru.otus.hw.repositories.CommentRepository;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+
+import static org.springframework.util.CollectionUtils.isEmpty;
 
 @RequiredArgsConstructor
 @Service
@@ -37,8 +42,26 @@ public class CommentServiceImpl implements CommentService {
         var book = bookRepository.findById(bookId)
                 .orElseThrow(() -> new EntityNotFoundException("Book with id %d not found".formatted(bookId)));
 
-        var comment = new Comment(text, book);
-        return commentRepository.save(comment);
+        var comment = commentRepository.save(new Comment(text, book));
+        bookRepository.incrementCommentCount(bookId, 1, comment.getCreatedAt());
+        return comment;
+    }
+
+    @Override
+    @Transactional
+    public int insertAll(long bookId, List<String> texts) {
+        var book = bookRepository.findById(bookId)
+                .orElseThrow(() -> new EntityNotFoundException("Book with id %d not found".formatted(bookId)));
+
+        var comments = texts.stream()
+                .map(text -> new Comment(text, book))
+                .toList();
+        commentRepository.insertAll(comments);
+        comments.stream()
+                .map(Comment::getCreatedAt)
+                .max(Comparator.naturalOrder())
+                .ifPresent(commentedAt -> bookRepository.incrementCommentCount(bookId, comments.size(), commentedAt));
+        return comments.size();
     }
 
     @Override
@@ -54,6 +77,30 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional
     public void deleteById(long id) {
-        commentRepository.deleteById(id);
+        var bookIds = commentRepository.findBookIdsByIds(List.of(id));
+        if (commentRepository.deleteById(id) > 0) {
+            bookIds.forEach(bookRepository::decrementCommentCount);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int deleteByIds(Set<Long> ids) {
+        if (isEmpty(ids)) {
+            throw new IllegalArgumentException("Comments ids must not be null or empty");
+        }
+        var bookIds = commentRepository.findBookIdsByIds(ids);
+        int deleted = commentRepository.deleteByIds(ids);
+        bookRepository.recomputeCommentStats(bookIds);
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    public int deleteCreatedBefore(LocalDateTime createdAt) {
+        var bookIds = commentRepository.findBookIdsCreatedBefore(createdAt);
+        int deleted = commentRepository.deleteCreatedBefore(createdAt);
+        bookRepository.recomputeCommentStats(bookIds);
+        return deleted;
     }
 }
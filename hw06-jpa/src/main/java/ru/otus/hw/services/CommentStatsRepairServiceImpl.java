@@ -0,0 +1,39 @@
+package ru.otus.hw.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.otus.hw.repositories.BookRepository;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Service
+public class CommentStatsRepairServiceImpl implements CommentStatsRepairService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final BookRepository bookRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public int repairAll() {
+        long lastId = 0;
+        int repaired = 0;
+        List<Long> ids;
+        do {
+            long afterId = lastId;
+            ids = transactionTemplate.execute(status -> {
+                var batch = bookRepository.findIdsAfter(afterId, BATCH_SIZE);
+                bookRepository.recomputeCommentStats(batch);
+                return batch;
+            });
+            if (!ids.isEmpty()) {
+                lastId = ids.get(ids.size() - 1);
+                repaired += ids.size();
+            }
+        } while (ids.size() == BATCH_SIZE);
+        return repaired;
+    }
+}
@@ -0,0 +1,5 @@
+create sequence books_seq start with 1 increment by 50;
+alter sequence books_seq restart with (select coalesce(max(id), 0) + 50 from books);
+
+create sequence comments_seq start with 1 increment by 50;
+alter sequence comments_seq restart with (select coalesce(max(id), 0) + 50 from comments);
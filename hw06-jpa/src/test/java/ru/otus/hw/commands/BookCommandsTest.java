@@ -0,0 +1,106 @@
+package ru.otus.hw.commands;
+
+import org.jline.terminal.Terminal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.otus.hw.converters.AuthorConverter;
+import ru.otus.hw.converters.BookConverter;
+import ru.otus.hw.converters.GenreConverter;
+import ru.otus.hw.models.Author;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Genre;
+import ru.otus.hw.services.BookService;
+import ru.otus.hw.services.CommentStatsRepairService;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookCommandsTest {
+
+    @Mock
+    private BookService bookService;
+
+    @Mock
+    private CommentStatsRepairService commentStatsRepairService;
+
+    @Mock
+    private Terminal terminal;
+
+    private final StringWriter output = new StringWriter();
+
+    private BookCommands bookCommands;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(terminal.writer()).thenReturn(new PrintWriter(output));
+        var bookConverter = new BookConverter(new AuthorConverter(), new GenreConverter());
+        bookCommands = new BookCommands(bookService, commentStatsRepairService, bookConverter, terminal);
+    }
+
+    @Test
+    void findAllBooks_printsStreamedBooksSeparatedByCommas() {
+        var author = new Author(1L, "Author_1");
+        var genre = new Genre(2L, "Genre_1");
+        var first = new Book("BookTitle_1", author, List.of(genre));
+        first.setId(1L);
+        var second = new Book("BookTitle_2", author, List.of());
+        second.setId(2L);
+        streamBooks(first, second);
+
+        bookCommands.findAllBooks();
+
+        assertThat(output.toString()).isEqualTo(
+                "Id: 1, title: BookTitle_1, author: {Id: 1, FullName: Author_1}, genres: [{Id: 2, Name: Genre_1}]"
+                        + ", comments: 0," + System.lineSeparator()
+                        + "Id: 2, title: BookTitle_2, author: {Id: 1, FullName: Author_1}, genres: [], comments: 0"
+                        + System.lineSeparator());
+    }
+
+    @Test
+    void findAllBooks_printsNothingWhenThereAreNoBooks() {
+        streamBooks();
+
+        bookCommands.findAllBooks();
+
+        assertThat(output.toString()).isEmpty();
+    }
+
+    @Test
+    void findBooksPage_rejectsNegativePageNumber() {
+        assertThatThrownBy(() -> bookCommands.findBooksPage(-1, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Page number must not be negative");
+        verifyNoInteractions(bookService);
+    }
+
+    @Test
+    void findBooksPage_rejectsNonPositivePageSize() {
+        assertThatThrownBy(() -> bookCommands.findBooksPage(0, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Page size must be positive");
+        verifyNoInteractions(bookService);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamBooks(Book... books) {
+        doAnswer(invocation -> {
+            Consumer<Book> action = invocation.getArgument(0);
+            List.of(books).forEach(action);
+            return null;
+        }).when(bookService).forEach(any(Consumer.class));
+    }
+}
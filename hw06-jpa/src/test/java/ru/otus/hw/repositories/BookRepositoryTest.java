@@ -1,20 +1,31 @@
 package ru.otus.hw.repositories;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import ru.otus.hw.dto.BookDeletion;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
+import ru.otus.hw.models.Comment;
 import ru.otus.hw.models.Genre;
+import ru.otus.hw.support.QueryCounter;
+import ru.otus.hw.support.QueryReportExtension;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 @Import(JpaBookRepository.class)
+@ExtendWith(QueryReportExtension.class)
 class BookRepositoryTest {
 
     @Autowired
@@ -24,7 +35,7 @@ class BookRepositoryTest {
     BookRepository bookRepository;
 
     @Test
-    void findAll_fetchesAuthorAndGenres_withoutLazyErrorsInsideTestTx() {
+    void findAll_fetchesAuthorAndGenres_withoutLazyErrorsInsideTestTx(QueryCounter queries) {
         var a = tem.persistFlushFind(new Author(null, "AuthorA"));
         var g1 = tem.persistFlushFind(new Genre(null, "G1"));
         var g2 = tem.persistFlushFind(new Genre(null, "G2"));
@@ -37,20 +48,20 @@ class BookRepositoryTest {
         tem.flush();
         tem.clear();
 
-        var all = bookRepository.findAll();
+        queries.withinBudget("BookRepository.findAll", 1, () -> {
+            var loaded = bookRepository.findAll().stream()
+                    .filter(x -> "T".equals(x.getTitle()))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("Created book not found in result"));
 
-        var loaded = all.stream()
-                .filter(x -> "T".equals(x.getTitle()))
-                .findFirst()
-                .orElseThrow(() -> new AssertionError("Created book not found in result"));
-
-        assertThat(loaded.getAuthor().getFullName()).isEqualTo("AuthorA");
-        assertThat(loaded.getGenres()).extracting(Genre::getName)
-                .containsExactlyInAnyOrder("G1", "G2");
+            assertThat(loaded.getAuthor().getFullName()).isEqualTo("AuthorA");
+            assertThat(loaded.getGenres()).extracting(Genre::getName)
+                    .containsExactlyInAnyOrder("G1", "G2");
+        });
     }
 
     @Test
-    void findById_fetchesAuthorAndGenres() {
+    void findById_fetchesAuthorAndGenres(QueryCounter queries) {
         var a = tem.persistFlushFind(new Author(null, "AuthorA"));
         var g1 = tem.persistFlushFind(new Genre(null, "G1"));
         var b = new Book();
@@ -61,10 +72,108 @@ class BookRepositoryTest {
         tem.flush();
         tem.clear();
 
-        var opt = bookRepository.findById(b.getId());
-        assertThat(opt).isPresent();
-        var loaded = opt.get();
+        queries.withinBudget("BookRepository.findById", 1, () -> {
+            var opt = bookRepository.findById(b.getId());
+            assertThat(opt).isPresent();
+            var loaded = opt.get();
+            assertThat(loaded.getAuthor().getFullName()).isEqualTo("AuthorA");
+            assertThat(loaded.getGenres()).extracting(Genre::getName).containsExactly("G1");
+        });
+    }
+
+    @Test
+    void forEach_streamsBooksInIdOrderWithGenres_andDetachesThem() {
+        var a = tem.persistFlushFind(new Author(null, "AuthorA"));
+        var g1 = tem.persistFlushFind(new Genre(null, "G1"));
+        var g2 = tem.persistFlushFind(new Genre(null, "G2"));
+        var first = tem.persist(new Book("S1", a, List.of(g1, g2)));
+        var second = tem.persist(new Book("S2", a, List.of(g2)));
+        tem.flush();
+        tem.clear();
+
+        var streamed = new ArrayList<Book>();
+        bookRepository.forEach(book -> {
+            assertThat(tem.getEntityManager().contains(book)).isTrue();
+            streamed.add(book);
+        });
+
+        assertThat(streamed).extracting(Book::getId).isSorted()
+                .contains(first.getId(), second.getId());
+        var loaded = streamed.stream().filter(b -> b.getId().equals(first.getId())).findFirst().orElseThrow();
         assertThat(loaded.getAuthor().getFullName()).isEqualTo("AuthorA");
-        assertThat(loaded.getGenres()).extracting(Genre::getName).containsExactly("G1");
+        assertThat(loaded.getGenres()).extracting(Genre::getName).containsExactly("G1", "G2");
+        assertThat(streamed).noneMatch(tem.getEntityManager()::contains);
+    }
+
+    @Test
+    void findAllPageable_returnsRequestedIdPageWithAuthorAndGenres() {
+        var a = tem.persistFlushFind(new Author(null, "AuthorA"));
+        var g1 = tem.persistFlushFind(new Genre(null, "G1"));
+        var g2 = tem.persistFlushFind(new Genre(null, "G2"));
+        for (int i = 0; i < 4; i++) {
+            tem.persist(new Book("P" + i, a, List.of(g1, g2)));
+        }
+        tem.flush();
+        tem.clear();
+        var allIds = bookRepository.findAll().stream().map(Book::getId).toList();
+
+        var page = bookRepository.findAll(PageRequest.of(1, 2));
+
+        assertThat(page.getContent()).extracting(Book::getId).containsExactlyElementsOf(allIds.subList(2, 4));
+        assertThat(page.getTotalElements()).isEqualTo(allIds.size());
+        assertThat(page.getContent()).allSatisfy(book -> {
+            assertThat(book.getAuthor().getFullName()).isNotBlank();
+            assertThat(book.getGenres()).isNotEmpty();
+        });
+    }
+
+    @Test
+    void findAllPageable_appliesRequestedSortWithIdAsTieBreaker() {
+        var author = tem.find(Author.class, 1L);
+        var genres = List.of(tem.find(Genre.class, 1L));
+        tem.persist(new Book("AAA", author, genres));
+        tem.persist(new Book("AAA", author, genres));
+        tem.flush();
+        tem.clear();
+        var expected = bookRepository.findAll().stream()
+                .sorted(Comparator.comparing(Book::getTitle, Comparator.reverseOrder())
+                        .thenComparing(Book::getId))
+                .map(Book::getId)
+                .toList();
+
+        var page = bookRepository.findAll(PageRequest.of(0, expected.size(), Sort.by("title").descending()));
+
+        assertThat(page.getContent()).extracting(Book::getId).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void findAllPageable_rejectsUnknownSortProperty() {
+        var pageable = PageRequest.of(0, 2, Sort.by("author.fullName"));
+
+        assertThatThrownBy(() -> bookRepository.findAll(pageable))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Books cannot be sorted by author.fullName");
+    }
+
+    @Test
+    void deleteById_removesBookCommentsAndGenreLinksWithBulkStatements() {
+        var genres = List.of(tem.find(Genre.class, 1L), tem.find(Genre.class, 2L));
+        var b = new Book("Doomed", tem.find(Author.class, 1L), genres);
+        tem.persist(b);
+        tem.persist(new Comment("c1", b));
+        tem.persist(new Comment("c2", b));
+        tem.flush();
+        var em = tem.getEntityManager();
+
+        var deletion = bookRepository.deleteById(b.getId());
+
+        assertThat(deletion).isEqualTo(new BookDeletion(1, 2, 2));
+        assertThat(em.contains(b)).isFalse();
+        assertThat(em.createNativeQuery("select count(*) from books_genres where book_id = :id")
+                .setParameter("id", b.getId()).getSingleResult()).isEqualTo(0L);
+        assertThat(em.createQuery("select count(c) from Comment c where c.book.id = :id", Long.class)
+                .setParameter("id", b.getId()).getSingleResult()).isZero();
+        assertThat(bookRepository.findById(b.getId())).isEmpty();
+        assertThat(bookRepository.deleteById(b.getId())).isEqualTo(new BookDeletion(0, 0, 0));
     }
 }
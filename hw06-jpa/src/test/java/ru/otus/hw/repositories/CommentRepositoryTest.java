@@ -1,6 +1,8 @@
 package ru.otus.hw.repositories;
 
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
@@ -9,13 +11,18 @@ import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.models.Comment;
 import ru.otus.hw.models.Genre;
+import ru.otus.hw.support.QueryCounter;
+import ru.otus.hw.support.QueryReportExtension;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
 @Import(JpaCommentRepository.class)
+@ExtendWith(QueryReportExtension.class)
 class CommentRepositoryTest {
 
     @Autowired
@@ -25,7 +32,7 @@ class CommentRepositoryTest {
     CommentRepository commentRepository;
 
     @Test
-    void findByBookId_returnsLatestFirst_andBookIsAccessible() {
+    void findByBookId_returnsLatestFirst_andBookIsAccessible(QueryCounter queries) {
         var a = tem.persistFlushFind(new Author(null, "A"));
         var g = tem.persistFlushFind(new Genre(null, "G"));
         var b = new Book();
@@ -47,11 +54,75 @@ class CommentRepositoryTest {
         tem.flush();
         tem.clear();
 
-        var list = commentRepository.findByBookId(b.getId());
-        assertThat(list).hasSize(2);
-        assertThat(list.get(0).getText()).isEqualTo("second");
-        assertThat(list.get(1).getText()).isEqualTo("first");
+        queries.withinBudget("CommentRepository.findByBookId", 1, () -> {
+            var list = commentRepository.findByBookId(b.getId());
+            assertThat(list).hasSize(2);
+            assertThat(list.get(0).getText()).isEqualTo("second");
+            assertThat(list.get(1).getText()).isEqualTo("first");
 
-        assertThat(list.get(0).getBook().getId()).isEqualTo(b.getId());
+            assertThat(list.get(0).getBook().getId()).isEqualTo(b.getId());
+        });
+    }
+
+    @Test
+    void insertAll_persistsCommentsInJdbcBatches() {
+        var book = tem.find(Book.class, 1L);
+        var comments = IntStream.range(0, 120)
+                .mapToObj(i -> new Comment("bulk " + i, book))
+                .toList();
+        var statistics = tem.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        commentRepository.insertAll(comments);
+
+        assertThat(comments).extracting(Comment::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+        assertThat(commentRepository.findByBookId(1L)).extracting(Comment::getText).contains("bulk 0", "bulk 119");
+    }
+
+    @Test
+    void insertAll_detachesOnlyInsertedComments() {
+        var book = tem.find(Book.class, 1L);
+        var comments = List.of(new Comment("first", book), new Comment("second", book));
+
+        commentRepository.insertAll(comments);
+
+        var em = tem.getEntityManager();
+        assertThat(em.contains(book)).isTrue();
+        assertThat(comments).noneMatch(em::contains);
+    }
+
+    @Test
+    void deleteByIds_removesOnlyGivenCommentsAndDetachesLoadedOnes() {
+        var book = tem.find(Book.class, 1L);
+        var keep = tem.persist(new Comment("keep", book));
+        var drop1 = tem.persist(new Comment("drop 1", book));
+        var drop2 = tem.persist(new Comment("drop 2", book));
+        tem.flush();
+
+        int deleted = commentRepository.deleteByIds(List.of(drop1.getId(), drop2.getId(), drop2.getId(), -1L));
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(tem.getEntityManager().contains(keep)).isFalse();
+        assertThat(commentRepository.findById(keep.getId())).isPresent();
+        assertThat(commentRepository.findById(drop1.getId())).isEmpty();
+        assertThat(commentRepository.findById(drop2.getId())).isEmpty();
+    }
+
+    @Test
+    void deleteCreatedBefore_removesCommentsOlderThanCutoff() {
+        var book = tem.find(Book.class, 1L);
+        var cutoff = LocalDateTime.of(2000, 1, 1, 0, 0);
+        var old = tem.persist(new Comment(null, "old", cutoff.minusDays(1), book));
+        var boundary = tem.persist(new Comment(null, "boundary", cutoff, book));
+        tem.flush();
+
+        int deleted = commentRepository.deleteCreatedBefore(cutoff);
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(commentRepository.findById(old.getId())).isEmpty();
+        assertThat(commentRepository.findById(boundary.getId())).isPresent();
     }
 }
@@ -0,0 +1,104 @@
+package ru.otus.hw.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import ru.otus.hw.exceptions.CommentImportException;
+import ru.otus.hw.exceptions.EntityNotFoundException;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.repositories.JpaBookRepository;
+import ru.otus.hw.repositories.JpaCommentRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({JpaBookRepository.class, JpaCommentRepository.class, CommentServiceImpl.class,
+        CommentImportServiceImpl.class})
+class CommentImportServiceImplTest {
+
+    @Autowired
+    TestEntityManager tem;
+
+    @Autowired
+    CommentImportService commentImportService;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void importLines_skipsBlankLinesStripsTextAndUpdatesCounter() throws IOException {
+        var file = Files.writeString(tempDir.resolve("comments.txt"), "  first  \n\n   \nsecond\n");
+        long before = commentCount(1L);
+
+        int imported = commentImportService.importLines(1L, file);
+
+        assertThat(imported).isEqualTo(2);
+        assertThat(commentCount(1L)).isEqualTo(before + 2);
+        assertThat(commentTexts(1L)).contains("first", "second").doesNotContain("  first  ", "");
+    }
+
+    @Test
+    void importLines_keepsCallerEntitiesManaged() throws IOException {
+        var book = tem.find(Book.class, 1L);
+        var file = Files.write(tempDir.resolve("comments.txt"), List.of("managed"));
+
+        commentImportService.importLines(1L, file);
+
+        assertThat(tem.getEntityManager().contains(book)).isTrue();
+    }
+
+    @Test
+    void importLines_insertsAllChunksOfLargeFile() throws IOException {
+        var lines = IntStream.rangeClosed(1, 10_001).mapToObj(i -> "bulk " + i).toList();
+        var file = Files.write(tempDir.resolve("comments.txt"), lines);
+        long before = commentCount(2L);
+
+        int imported = commentImportService.importLines(2L, file);
+
+        assertThat(imported).isEqualTo(10_001);
+        assertThat(commentCount(2L)).isEqualTo(before + 10_001);
+        assertThat(commentTexts(2L)).contains("bulk 1", "bulk 10000", "bulk 10001");
+    }
+
+    @Test
+    void importLines_failsForUnknownBook() throws IOException {
+        var file = Files.write(tempDir.resolve("comments.txt"), List.of("orphan"));
+
+        assertThatThrownBy(() -> commentImportService.importLines(-1L, file))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Book with id -1 not found");
+    }
+
+    @Test
+    void importLines_wrapsReadFailure() {
+        var missing = tempDir.resolve("missing.txt");
+
+        assertThatThrownBy(() -> commentImportService.importLines(1L, missing))
+                .isInstanceOf(CommentImportException.class)
+                .hasMessage("Failed to read " + missing);
+    }
+
+    private long commentCount(long bookId) {
+        return tem.getEntityManager()
+                .createQuery("select b.commentCount from Book b where b.id = :id", Long.class)
+                .setParameter("id", bookId)
+                .getSingleResult();
+    }
+
+    private List<String> commentTexts(long bookId) {
+        return tem.getEntityManager()
+                .createQuery("select c.text from Comment c where c.book.id = :id", String.class)
+                .setParameter("id", bookId)
+                .getResultList();
+    }
+}
@@ -0,0 +1,129 @@
+package ru.otus.hw.services;
+
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.repositories.BookRepository;
+import ru.otus.hw.repositories.JpaBookRepository;
+import ru.otus.hw.repositories.JpaCommentRepository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JpaBookRepository.class, JpaCommentRepository.class, CommentServiceImpl.class,
+        CommentStatsRepairServiceImpl.class})
+class CommentStatsTest {
+
+    @Autowired
+    TestEntityManager tem;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    CommentStatsRepairService commentStatsRepairService;
+
+    @Autowired
+    BookRepository bookRepository;
+
+    @Test
+    void insertAndDeleteById_keepCounterAndLastCommentedAtInSync() {
+        long before = storedStats(1L).count();
+
+        commentService.insert(1L, "first");
+        var second = commentService.insert(1L, "second");
+
+        assertThat(storedStats(1L)).isEqualTo(actualStats(1L));
+        assertThat(storedStats(1L).count()).isEqualTo(before + 2);
+
+        commentService.deleteById(second.getId());
+
+        assertThat(storedStats(1L)).isEqualTo(actualStats(1L));
+        assertThat(storedStats(1L).count()).isEqualTo(before + 1);
+
+        commentService.findByBookId(1L).forEach(comment -> commentService.deleteById(comment.getId()));
+
+        assertThat(storedStats(1L)).isEqualTo(new Stats(0, null));
+    }
+
+    @Test
+    void insertAll_addsWholeChunkWithNewestTimestamp() {
+        long before = storedStats(2L).count();
+
+        int inserted = commentService.insertAll(2L, List.of("a", "b", "c"));
+
+        assertThat(inserted).isEqualTo(3);
+        assertThat(storedStats(2L)).isEqualTo(actualStats(2L));
+        assertThat(storedStats(2L).count()).isEqualTo(before + 3);
+    }
+
+    @Test
+    void bulkDeletes_recomputeStatsOfAffectedBooksOnly() {
+        var fromFirst = commentService.insert(1L, "bulk 1");
+        var fromSecond = commentService.insert(2L, "bulk 2");
+        var untouched = storedStats(3L);
+
+        commentService.deleteByIds(Set.of(fromFirst.getId(), fromSecond.getId()));
+
+        assertThat(storedStats(1L)).isEqualTo(actualStats(1L));
+        assertThat(storedStats(2L)).isEqualTo(actualStats(2L));
+        assertThat(storedStats(3L)).isEqualTo(untouched);
+
+        commentService.deleteCreatedBefore(LocalDateTime.now().plusDays(1));
+
+        for (long bookId = 1; bookId <= 3; bookId++) {
+            assertThat(storedStats(bookId)).isEqualTo(new Stats(0, null));
+        }
+    }
+
+    @Test
+    void repairAll_fixesDriftOfEveryBook() {
+        commentService.insert(2L, "popular");
+        long books = tem.getEntityManager().createQuery("select count(b) from Book b", Long.class)
+                .getSingleResult();
+        tem.getEntityManager().createNativeQuery("update books set comment_count = 42, last_commented_at = null")
+                .executeUpdate();
+
+        int repaired = commentStatsRepairService.repairAll();
+
+        assertThat(repaired).isEqualTo(books);
+        for (long bookId = 1; bookId <= books; bookId++) {
+            assertThat(storedStats(bookId)).isEqualTo(actualStats(bookId));
+        }
+        tem.clear();
+        assertThat(bookRepository.findMostCommented(100))
+                .extracting(Book::getCommentCount)
+                .isSortedAccordingTo(Comparator.reverseOrder())
+                .doesNotContain(42L);
+    }
+
+    private Stats storedStats(long bookId) {
+        return toStats(tem.getEntityManager()
+                .createQuery("select b.commentCount, b.lastCommentedAt from Book b where b.id = :id", Tuple.class)
+                .setParameter("id", bookId)
+                .getSingleResult());
+    }
+
+    private Stats actualStats(long bookId) {
+        return toStats(tem.getEntityManager()
+                .createQuery("select count(c), max(c.createdAt) from Comment c where c.book.id = :id", Tuple.class)
+                .setParameter("id", bookId)
+                .getSingleResult());
+    }
+
+    private static Stats toStats(Tuple tuple) {
+        return new Stats(tuple.get(0, Long.class), tuple.get(1, LocalDateTime.class));
+    }
+
+    private record Stats(long count, LocalDateTime lastCommentedAt) {
+    }
+}
@@ -1,28 +1,54 @@
 package ru.otus.hw.commands;
 
 import lombok.RequiredArgsConstructor;
+import org.jline.terminal.Terminal;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
 import ru.otus.hw.converters.BookConverter;
+import ru.otus.hw.dto.BookSummary;
 import ru.otus.hw.services.BookService;
+import ru.otus.hw.services.CommentStatsRepairService;
 
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 @SuppressWarnings({"SpellCheckingInspection", "unused"})
 @RequiredArgsConstructor
 @ShellComponent
 public class BookCommands {
 
+    private static final int OUTPUT_FLUSH_THRESHOLD = 8192;
+
     private final BookService bookService;
 
+    private final CommentStatsRepairService commentStatsRepairService;
+
     private final BookConverter bookConverter;
 
+    private final Terminal terminal;
+
     @ShellMethod(value = "Find all books", key = "ab")
-    public String findAllBooks() {
-        return bookService.findAll().stream()
-                .map(bookConverter::bookToString)
-                .collect(Collectors.joining("," + System.lineSeparator()));
+    public void findAllBooks() {
+        printBooks(bookService::forEach);
+    }
+
+    @ShellMethod(value = "Find most commented books", key = "abpop")
+    public String findMostCommentedBooks(@ShellOption(defaultValue = "10") int limit) {
+        var buffer = new StringBuilder();
+        for (var book : bookService.findMostCommented(limit)) {
+            if (!buffer.isEmpty()) {
+                buffer.append(',').append(System.lineSeparator());
+            }
+            bookConverter.appendBookSummary(buffer, book);
+        }
+        return buffer.toString();
+    }
+
+    @ShellMethod(value = "Recompute comment counters of all books", key = "bcrepair")
+    public String repairCommentStats() {
+        return "Recomputed comment counters of %d books".formatted(commentStatsRepairService.repairAll());
     }
 
     @ShellMethod(value = "Find book by id", key = "bbid")
@@ -48,4 +74,24 @@ public class BookCommands {
     public void deleteBook(long id) {
         bookService.deleteById(id);
     }
+
+    private void printBooks(Consumer<Consumer<BookSummary>> books) {
+        var writer = terminal.writer();
+        var buffer = new StringBuilder(OUTPUT_FLUSH_THRESHOLD);
+        var printed = new AtomicLong();
+        books.accept(book -> {
+            if (printed.getAndIncrement() > 0) {
+                buffer.append(',').append(System.lineSeparator());
+            }
+            bookConverter.appendBookSummary(buffer, book);
+            if (printed.get() == 1 || buffer.length() >= OUTPUT_FLUSH_THRESHOLD) {
+                writer.append(buffer).flush();
+                buffer.setLength(0);
+            }
+        });
+        if (printed.get() > 0) {
+            writer.append(buffer).println();
+        }
+        writer.flush();
+    }
 }
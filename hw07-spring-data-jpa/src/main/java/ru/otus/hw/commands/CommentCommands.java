@@ -3,6 +3,7 @@ package ru.otus.hw.commands;
 import lombok.RequiredArgsConstructor;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
 import ru.otus.hw.converters.CommentConverter;
 import ru.otus.hw.services.CommentService;
 
@@ -24,11 +25,24 @@ public class CommentCommands {
     }
 
     @ShellMethod(value = "Find comments by book id", key = "cbbid")
-    public String findCommentsByBookId(long bookId) {
+    public String findCommentsByBookId(long bookId,
+                                       @ShellOption(defaultValue = "0") int limit,
+                                       @ShellOption(defaultValue = ShellOption.NULL) String cursor) {
         var sep = "," + System.lineSeparator();
-        return commentService.findByBookId(bookId).stream()
+        if (limit <= 0) {
+            return commentService.findByBookId(bookId).stream()
+                    .map(commentConverter::commentToString)
+                    .collect(Collectors.joining(sep));
+        }
+        var page = commentService.findByBookId(bookId, cursor, limit);
+        var pageString = page.comments().stream()
                 .map(commentConverter::commentToString)
                 .collect(Collectors.joining(sep));
+        if (!page.hasNext()) {
+            return pageString;
+        }
+        return pageString + System.lineSeparator()
+                + "Next page: cbbid %d --limit %d --cursor %s".formatted(bookId, limit, page.nextCursor());
     }
 
     @ShellMethod(value = "Insert comment (bookId, text)", key = "cins")
@@ -2,9 +2,10 @@ package ru.otus.hw.converters;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import ru.otus.hw.dto.BookSummary;
 import ru.otus.hw.models.Book;
 
-import java.util.stream.Collectors;
+import java.time.LocalDateTime;
 
 @RequiredArgsConstructor
 @Component
@@ -14,14 +15,39 @@ public class BookConverter {
     private final GenreConverter genreConverter;
 
     public String bookToString(Book book) {
-        var genresString = book.getGenres().stream()
-                .map(genreConverter::genreToString)
-                .map("{%s}"::formatted)
-                .collect(Collectors.joining(", "));
-        return "Id: %d, title: %s, author: {%s}, genres: [%s]".formatted(
-                book.getId(),
-                book.getTitle(),
-                authorConverter.authorToString(book.getAuthor()),
-                genresString);
+        return appendBook(new StringBuilder(), book).toString();
+    }
+
+    public StringBuilder appendBook(StringBuilder target, Book book) {
+        target.append("Id: ").append(book.getId())
+                .append(", title: ").append(book.getTitle())
+                .append(", author: {");
+        authorConverter.appendAuthor(target, book.getAuthor()).append("}, genres: [");
+        var genres = book.getGenres();
+        for (int i = 0; i < genres.size(); i++) {
+            if (i > 0) {
+                target.append(", ");
+            }
+            genreConverter.appendGenre(target.append('{'), genres.get(i)).append('}');
+        }
+        target.append(']');
+        return appendCommentStats(target, book.getCommentCount(), book.getLastCommentedAt());
+    }
+
+    public StringBuilder appendBookSummary(StringBuilder target, BookSummary book) {
+        target.append("Id: ").append(book.id())
+                .append(", title: ").append(book.title())
+                .append(", author: ").append(book.authorName())
+                .append(", genres: [").append(book.genreNames() == null ? "" : book.genreNames())
+                .append(']');
+        return appendCommentStats(target, book.commentCount(), book.lastCommentedAt());
+    }
+
+    private StringBuilder appendCommentStats(StringBuilder target, long commentCount, LocalDateTime lastCommentedAt) {
+        target.append(", comments: ").append(commentCount);
+        if (lastCommentedAt != null) {
+            target.append(", last commented: ").append(lastCommentedAt);
+        }
+        return target;
     }
 }
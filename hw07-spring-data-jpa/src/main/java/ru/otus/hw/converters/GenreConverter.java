@@ -6,6 +6,11 @@ import ru.otus.hw.models.Genre;
 @Component
 public class GenreConverter {
     public String genreToString(Genre genre) {
-        return "Id: %d, Name: %s".formatted(genre.getId(), genre.getName());
+        return appendGenre(new StringBuilder(), genre).toString();
+    }
+
+    public StringBuilder appendGenre(StringBuilder target, Genre genre) {
+        return target.append("Id: ").append(genre.getId())
+                .append(", Name: ").append(genre.getName());
     }
 }
@@ -0,0 +1,7 @@
+package ru.otus.hw.dto;
+
+import java.time.LocalDateTime;
+
+public record BookSummary(Long id, String title, String authorName, String genreNames,
+                          long commentCount, LocalDateTime lastCommentedAt) {
+}
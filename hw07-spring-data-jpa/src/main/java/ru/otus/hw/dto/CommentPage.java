@@ -0,0 +1,12 @@
+package ru.otus.hw.dto;
+
+import ru.otus.hw.models.Comment;
+
+import java.util.List;
+
+public record CommentPage(List<Comment> comments, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
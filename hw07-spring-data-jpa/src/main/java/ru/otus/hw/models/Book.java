@@ -19,6 +19,7 @@ import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.hibernate.annotations.BatchSize;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -55,6 +56,12 @@ public class Book {
     @BatchSize(size = 16)
     private List<Genre> genres = new ArrayList<>();
 
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private long commentCount;
+
+    @Column(name = "last_commented_at", insertable = false, updatable = false)
+    private LocalDateTime lastCommentedAt;
+
     public Book(String title, Author author, List<Genre> genres) {
         this.title = title;
         this.author = author;
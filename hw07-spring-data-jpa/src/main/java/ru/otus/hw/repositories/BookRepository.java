@@ -1,18 +1,73 @@
 package ru.otus.hw.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import ru.otus.hw.dto.BookSummary;
 import ru.otus.hw.models.Book;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
 
+    String SUMMARIES_SELECT = "select new ru.otus.hw.dto.BookSummary(b.id, b.title, a.fullName, " +
+            "listagg(g.name, ', ') within group (order by g.id), b.commentCount, b.lastCommentedAt) " +
+            "from Book b join b.author a left join b.genres g " +
+            "group by b.id, b.title, a.fullName, b.commentCount, b.lastCommentedAt ";
+
+    String SUMMARIES_QUERY = SUMMARIES_SELECT + "order by b.id";
+
     @Override
     @EntityGraph(attributePaths = {"author", "genres"})
     List<Book> findAll();
 
     @EntityGraph(attributePaths = {"author", "genres"})
     Optional<Book> findById(Long id);
+
+    @EntityGraph(attributePaths = {"author", "genres"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Optional<Book> findReadOnlyById(long id);
+
+    @Query(SUMMARIES_QUERY)
+    List<BookSummary> findAllSummaries();
+
+    @Query(SUMMARIES_QUERY)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<BookSummary> streamAllSummaries();
+
+    @Query(SUMMARIES_SELECT + "order by b.commentCount desc, b.id")
+    List<BookSummary> findMostCommentedSummaries(Limit limit);
+
+    @Query("select b.id from Book b where b.id > :afterId order by b.id")
+    List<Long> findIdsAfter(long afterId, Limit limit);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Book b set b.commentCount = b.commentCount + 1, " +
+            "b.lastCommentedAt = case " +
+            "when b.lastCommentedAt is null or b.lastCommentedAt < :commentedAt " +
+            "then :commentedAt else b.lastCommentedAt end " +
+            "where b.id = :id")
+    void incrementCommentCount(long id, LocalDateTime commentedAt);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Book b set b.commentCount = b.commentCount - 1, " +
+            "b.lastCommentedAt = (select max(c.createdAt) from Comment c where c.book.id = b.id) " +
+            "where b.id = :id")
+    void decrementCommentCount(long id);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Book b set " +
+            "b.commentCount = (select count(c) from Comment c where c.book.id = b.id), " +
+            "b.lastCommentedAt = (select max(c.createdAt) from Comment c where c.book.id = b.id) " +
+            "where b.id in :ids")
+    int recomputeCommentStats(Collection<Long> ids);
 }
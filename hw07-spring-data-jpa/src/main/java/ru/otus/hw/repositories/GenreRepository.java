@@ -1,11 +1,18 @@
 package ru.otus.hw.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import ru.otus.hw.models.Genre;
 
 import java.util.List;
 import java.util.Set;
 
 public interface GenreRepository extends JpaRepository<Genre, Long> {
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Genre> findAll();
+
     List<Genre> findByIdIn(Set<Long> ids);
 }
@@ -1,15 +1,21 @@
 package ru.otus.hw.services;
 
+import ru.otus.hw.dto.BookSummary;
 import ru.otus.hw.models.Book;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 public interface BookService {
     Optional<Book> findById(long id);
 
-    List<Book> findAll();
+    List<BookSummary> findAll();
+
+    void forEach(Consumer<BookSummary> action);
+
+    List<BookSummary> findMostCommented(int limit);
 
     Book insert(String title, long authorId, Set<Long> genresIds);
 
@@ -1,8 +1,10 @@
 package ru.otus.hw.services;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.otus.hw.dto.BookSummary;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.models.Genre;
@@ -13,6 +15,7 @@ import ru.otus.hw.repositories.GenreRepository;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.springframework.util.CollectionUtils.isEmpty;
 
@@ -29,13 +32,30 @@ public class BookServiceImpl implements BookService {
     @Override
     @Transactional(readOnly = true)
     public Optional<Book> findById(long id) {
-        return bookRepository.findById(id);
+        return bookRepository.findReadOnlyById(id);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Book> findAll() {
-        return bookRepository.findAll();
+    public List<BookSummary> findAll() {
+        return bookRepository.findAllSummaries();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(Consumer<BookSummary> action) {
+        try (var books = bookRepository.streamAllSummaries()) {
+            books.forEach(action);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookSummary> findMostCommented(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return bookRepository.findMostCommentedSummaries(Limit.of(limit));
     }
 
     @Override
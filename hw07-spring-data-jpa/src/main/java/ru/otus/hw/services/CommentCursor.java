@@ -0,0 +1,40 @@
+package ru.otus.hw.services;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import ru.otus.hw.models.Comment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+
+record CommentCursor(LocalDateTime createdAt, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    static CommentCursor of(Comment comment) {
+        return new CommentCursor(comment.getCreatedAt(), comment.getId());
+    }
+
+    static CommentCursor decode(String cursor) {
+        try {
+            var value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            return new CommentCursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (DateTimeParseException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid comments cursor: " + cursor, e);
+        }
+    }
+
+    String encode() {
+        var value = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    KeysetScrollPosition toScrollPosition() {
+        return ScrollPosition.forward(Map.of("createdAt", createdAt, "id", id));
+    }
+}
@@ -1,5 +1,6 @@
 package ru.otus.hw.services;
 
+import ru.otus.hw.dto.CommentPage;
 import ru.otus.hw.models.Comment;
 
 import java.util.List;
@@ -10,6 +11,8 @@ public interface CommentService {
 
     List<Comment> findByBookId(long bookId);
 
+    CommentPage findByBookId(long bookId, String cursor, int limit);
+
     Comment insert(long bookId, String text);
 
     Comment update(long id, String text);
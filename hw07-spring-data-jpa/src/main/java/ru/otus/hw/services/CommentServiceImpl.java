@@ -1,8 +1,11 @@
 package ru.otus.hw.services;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.otus.hw.dto.CommentPage;
 import ru.otus.hw.exceptions.EntityNotFoundException;
 import ru.otus.hw.models.Comment;
 import ru.otus.hw.repositories.BookRepository;
@@ -22,7 +25,7 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional(readOnly = true)
     public Optional<Comment> findById(long id) {
-        return commentRepository.findById(id);
+        return commentRepository.findReadOnlyById(id);
     }
 
     @Override
@@ -31,14 +34,28 @@ public class CommentServiceImpl implements CommentService {
         return commentRepository.findByBookIdOrderByCreatedAtDesc(bookId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CommentPage findByBookId(long bookId, String cursor, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        var position = cursor == null ? ScrollPosition.keyset() : CommentCursor.decode(cursor).toScrollPosition();
+        var window = commentRepository.findByBookIdOrderByCreatedAtDescIdDesc(bookId, position, Limit.of(limit));
+        var comments = window.getContent();
+        var nextCursor = window.hasNext() ? CommentCursor.of(comments.get(comments.size() - 1)).encode() : null;
+        return new CommentPage(comments, nextCursor);
+    }
+
     @Override
     @Transactional
     public Comment insert(long bookId, String text) {
         var book = bookRepository.findById(bookId)
                 .orElseThrow(() -> new EntityNotFoundException("Book with id %d not found".formatted(bookId)));
 
-        var comment = new Comment(text, book);
-        return commentRepository.save(comment);
+        var comment = commentRepository.save(new Comment(text, book));
+        bookRepository.incrementCommentCount(bookId, comment.getCreatedAt());
+        return comment;
     }
 
     @Override
@@ -54,6 +71,9 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional
     public void deleteById(long id) {
-        commentRepository.deleteById(id);
+        commentRepository.findById(id).ifPresent(comment -> {
+            commentRepository.delete(comment);
+            bookRepository.decrementCommentCount(comment.getBook().getId());
+        });
     }
 }
@@ -0,0 +1 @@
+create index idx_comments_book_created_id on comments (book_id, created_at desc, id desc);
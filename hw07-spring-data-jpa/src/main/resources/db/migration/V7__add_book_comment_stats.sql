@@ -0,0 +1,8 @@
+alter table books add column comment_count bigint not null default 0;
+alter table books add column last_commented_at timestamp;
+
+update books b
+set comment_count     = (select count(*) from comments c where c.book_id = b.id),
+    last_commented_at = (select max(c.created_at) from comments c where c.book_id = b.id);
+
+create index idx_books_comment_count on books (comment_count desc, id);
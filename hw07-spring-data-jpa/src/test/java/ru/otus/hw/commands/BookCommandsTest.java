@@ -0,0 +1,83 @@
+package ru.otus.hw.commands;
+
+import org.jline.terminal.Terminal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.otus.hw.converters.AuthorConverter;
+import ru.otus.hw.converters.BookConverter;
+import ru.otus.hw.converters.GenreConverter;
+import ru.otus.hw.dto.BookSummary;
+import ru.otus.hw.services.BookService;
+import ru.otus.hw.services.CommentStatsRepairService;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookCommandsTest {
+
+    @Mock
+    private BookService bookService;
+
+    @Mock
+    private CommentStatsRepairService commentStatsRepairService;
+
+    @Mock
+    private Terminal terminal;
+
+    private final StringWriter output = new StringWriter();
+
+    private BookCommands bookCommands;
+
+    @BeforeEach
+    void setUp() {
+        when(terminal.writer()).thenReturn(new PrintWriter(output));
+        var bookConverter = new BookConverter(new AuthorConverter(), new GenreConverter());
+        bookCommands = new BookCommands(bookService, commentStatsRepairService, bookConverter, terminal);
+    }
+
+    @Test
+    void findAllBooks_printsStreamedSummariesSeparatedByCommas() {
+        var commentedAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        streamBooks(
+                new BookSummary(1L, "BookTitle_1", "Author_1", "Genre_1, Genre_2", 2, commentedAt),
+                new BookSummary(2L, "BookTitle_2", "Author_2", null, 0, null));
+
+        bookCommands.findAllBooks();
+
+        assertThat(output.toString()).isEqualTo(
+                "Id: 1, title: BookTitle_1, author: Author_1, genres: [Genre_1, Genre_2], comments: 2"
+                        + ", last commented: " + commentedAt + "," + System.lineSeparator()
+                        + "Id: 2, title: BookTitle_2, author: Author_2, genres: [], comments: 0"
+                        + System.lineSeparator());
+    }
+
+    @Test
+    void findAllBooks_printsNothingWhenThereAreNoBooks() {
+        streamBooks();
+
+        bookCommands.findAllBooks();
+
+        assertThat(output.toString()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamBooks(BookSummary... books) {
+        doAnswer(invocation -> {
+            Consumer<BookSummary> action = invocation.getArgument(0);
+            List.of(books).forEach(action);
+            return null;
+        }).when(bookService).forEach(any(Consumer.class));
+    }
+}
@@ -1,18 +1,24 @@
 package ru.otus.hw.repositories;
 
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import ru.otus.hw.dto.BookSummary;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.models.Genre;
+import ru.otus.hw.support.QueryCounter;
+import ru.otus.hw.support.QueryReportExtension;
 
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@ExtendWith(QueryReportExtension.class)
 class BookRepositoryTest {
 
     @Autowired
@@ -22,7 +28,7 @@ class BookRepositoryTest {
     BookRepository bookRepository;
 
     @Test
-    void findAll_fetchesAuthorAndGenres_withoutLazyErrorsInsideTestTx() {
+    void findAll_fetchesAuthorAndGenres_withoutLazyErrorsInsideTestTx(QueryCounter queries) {
         var a = tem.persistFlushFind(new Author(null, "AuthorA"));
         var g1 = tem.persistFlushFind(new Genre(null, "G1"));
         var g2 = tem.persistFlushFind(new Genre(null, "G2"));
@@ -35,20 +41,20 @@ class BookRepositoryTest {
         tem.flush();
         tem.clear();
 
-        var all = bookRepository.findAll();
+        queries.withinBudget("BookRepository.findAll", 1, () -> {
+            var loaded = bookRepository.findAll().stream()
+                    .filter(x -> "T".equals(x.getTitle()))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("Created book not found in result"));
 
-        var loaded = all.stream()
-                .filter(x -> "T".equals(x.getTitle()))
-                .findFirst()
-                .orElseThrow(() -> new AssertionError("Created book not found in result"));
-
-        assertThat(loaded.getAuthor().getFullName()).isEqualTo("AuthorA");
-        assertThat(loaded.getGenres()).extracting(Genre::getName)
-                .containsExactlyInAnyOrder("G1", "G2");
+            assertThat(loaded.getAuthor().getFullName()).isEqualTo("AuthorA");
+            assertThat(loaded.getGenres()).extracting(Genre::getName)
+                    .containsExactlyInAnyOrder("G1", "G2");
+        });
     }
 
     @Test
-    void findById_fetchesAuthorAndGenres() {
+    void findById_fetchesAuthorAndGenres(QueryCounter queries) {
         var a = tem.persistFlushFind(new Author(null, "AuthorA"));
         var g1 = tem.persistFlushFind(new Genre(null, "G1"));
         var b = new Book();
@@ -59,10 +65,35 @@ class BookRepositoryTest {
         tem.flush();
         tem.clear();
 
-        var opt = bookRepository.findById(b.getId());
-        assertThat(opt).isPresent();
-        var loaded = opt.get();
-        assertThat(loaded.getAuthor().getFullName()).isEqualTo("AuthorA");
-        assertThat(loaded.getGenres()).extracting(Genre::getName).containsExactly("G1");
+        queries.withinBudget("BookRepository.findById", 1, () -> {
+            var opt = bookRepository.findById(b.getId());
+            assertThat(opt).isPresent();
+            var loaded = opt.get();
+            assertThat(loaded.getAuthor().getFullName()).isEqualTo("AuthorA");
+            assertThat(loaded.getGenres()).extracting(Genre::getName).containsExactly("G1");
+        });
+    }
+
+    @Test
+    void summaries_aggregateAuthorAndGenreNames_withoutManagingEntities() {
+        var a = tem.persistFlushFind(new Author(null, "AuthorA"));
+        var g1 = tem.persistFlushFind(new Genre(null, "G1"));
+        var g2 = tem.persistFlushFind(new Genre(null, "G2"));
+        var first = tem.persist(new Book("S1", a, List.of(g1, g2)));
+        var second = tem.persist(new Book("S2", a, List.of(g2)));
+        tem.flush();
+        tem.clear();
+
+        List<BookSummary> streamed;
+        try (var books = bookRepository.streamAllSummaries()) {
+            streamed = books.toList();
+        }
+
+        assertThat(streamed).isEqualTo(bookRepository.findAllSummaries());
+        assertThat(streamed).extracting(BookSummary::id).isSorted().doesNotHaveDuplicates();
+        assertThat(streamed).contains(
+                new BookSummary(first.getId(), "S1", "AuthorA", "G1, G2", 0, null),
+                new BookSummary(second.getId(), "S2", "AuthorA", "G2", 0, null));
+        assertThat(tem.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
     }
 }
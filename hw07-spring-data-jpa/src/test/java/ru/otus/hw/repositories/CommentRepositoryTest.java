@@ -1,19 +1,29 @@
 package ru.otus.hw.repositories;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import ru.otus.hw.models.Author;
 import ru.otus.hw.models.Book;
 import ru.otus.hw.models.Comment;
 import ru.otus.hw.models.Genre;
+import ru.otus.hw.support.QueryCounter;
+import ru.otus.hw.support.QueryReportExtension;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@ExtendWith(QueryReportExtension.class)
 class CommentRepositoryTest {
 
     @Autowired
@@ -23,7 +33,7 @@ class CommentRepositoryTest {
     CommentRepository commentRepository;
 
     @Test
-    void findByBookId_returnsLatestFirst_andBookIsAccessible() {
+    void findByBookId_returnsLatestFirst_andBookIsAccessible(QueryCounter queries) {
         var a = tem.persistFlushFind(new Author(null, "A"));
         var g = tem.persistFlushFind(new Genre(null, "G"));
         var b = new Book();
@@ -45,11 +55,41 @@ class CommentRepositoryTest {
         tem.flush();
         tem.clear();
 
-        var list = commentRepository.findByBookIdOrderByCreatedAtDesc(b.getId());
-        assertThat(list).hasSize(2);
-        assertThat(list.get(0).getText()).isEqualTo("second");
-        assertThat(list.get(1).getText()).isEqualTo("first");
+        queries.withinBudget("CommentRepository.findByBookIdOrderByCreatedAtDesc", 1, () -> {
+            var list = commentRepository.findByBookIdOrderByCreatedAtDesc(b.getId());
+            assertThat(list).hasSize(2);
+            assertThat(list.get(0).getText()).isEqualTo("second");
+            assertThat(list.get(1).getText()).isEqualTo("first");
 
-        assertThat(list.get(0).getBook().getId()).isEqualTo(b.getId());
+            assertThat(list.get(0).getBook().getId()).isEqualTo(b.getId());
+        });
+    }
+
+    @Test
+    void keysetWindows_walkCommentsByCreatedAtDescThenIdDesc_includingTies() {
+        var book = tem.find(Book.class, 2L);
+        var base = LocalDateTime.of(2025, 1, 1, 12, 0);
+        var comments = new ArrayList<Comment>();
+        for (var createdAt : List.of(base, base.plusMinutes(1), base.plusMinutes(1), base.plusMinutes(1), base)) {
+            comments.add(tem.persist(new Comment(null, "k", createdAt, book)));
+        }
+        tem.flush();
+        tem.clear();
+        var expected = commentRepository.findByBookIdOrderByCreatedAtDesc(2L).stream()
+                .sorted(Comparator.comparing(Comment::getCreatedAt).thenComparing(Comment::getId).reversed())
+                .map(Comment::getId)
+                .toList();
+
+        var walked = new ArrayList<Long>();
+        ScrollPosition position = ScrollPosition.keyset();
+        Window<Comment> window;
+        do {
+            window = commentRepository.findByBookIdOrderByCreatedAtDescIdDesc(2L, position, Limit.of(2));
+            window.forEach(comment -> walked.add(comment.getId()));
+            position = window.positionAt(window.size() - 1);
+        } while (window.hasNext());
+
+        assertThat(walked).containsExactlyElementsOf(expected)
+                .containsAll(comments.stream().map(Comment::getId).toList());
     }
 }
@@ -1,5 +1,7 @@
 package ru.otus.hw.repositories;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -38,4 +40,36 @@ class GenreRepositoryTest {
         assertThat(subset).hasSize(1);
         assertThat(subset.get(0).getId()).isEqualTo(g1.getId());
     }
+
+    @Test
+    void findAll_repeatedCallIsServedFromQueryAndEntityCaches() {
+        var statistics = statistics();
+        genreRepository.findAll();
+        tem.clear();
+        statistics.clear();
+
+        var all = genreRepository.findAll();
+
+        assertThat(all).isNotEmpty();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void findById_loadedGenreIsServedFromSecondLevelCache() {
+        var statistics = statistics();
+        var id = genreRepository.findAll().get(0).getId();
+        tem.clear();
+        statistics.clear();
+
+        var genre = genreRepository.findById(id);
+
+        assertThat(genre).isPresent();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private Statistics statistics() {
+        return tem.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
 }
@@ -0,0 +1,107 @@
+package ru.otus.hw.services;
+
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import ru.otus.hw.dto.BookSummary;
+import ru.otus.hw.repositories.BookRepository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({BookServiceImpl.class, CommentServiceImpl.class, CommentStatsRepairServiceImpl.class})
+class CommentStatsTest {
+
+    @Autowired
+    TestEntityManager tem;
+
+    @Autowired
+    BookService bookService;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    CommentStatsRepairService commentStatsRepairService;
+
+    @Autowired
+    BookRepository bookRepository;
+
+    @Test
+    void insertAndDeleteById_keepCounterAndLastCommentedAtInSync() {
+        long before = storedStats(1L).count();
+
+        commentService.insert(1L, "first");
+        var second = commentService.insert(1L, "second");
+
+        assertThat(storedStats(1L)).isEqualTo(actualStats(1L));
+        assertThat(storedStats(1L).count()).isEqualTo(before + 2);
+
+        commentService.deleteById(second.getId());
+
+        assertThat(storedStats(1L)).isEqualTo(actualStats(1L));
+        assertThat(storedStats(1L).count()).isEqualTo(before + 1);
+
+        commentService.findByBookId(1L).forEach(comment -> commentService.deleteById(comment.getId()));
+
+        assertThat(storedStats(1L)).isEqualTo(new Stats(0, null));
+    }
+
+    @Test
+    void counterUpdates_refreshBooksAlreadyLoadedInPersistenceContext() {
+        long before = bookRepository.findById(2L).orElseThrow().getCommentCount();
+
+        var comment = commentService.insert(2L, "fresh");
+
+        assertThat(bookRepository.findById(2L).orElseThrow().getCommentCount()).isEqualTo(before + 1);
+
+        commentService.deleteById(comment.getId());
+
+        assertThat(bookRepository.findById(2L).orElseThrow().getCommentCount()).isEqualTo(before);
+    }
+
+    @Test
+    void repairAll_fixesDriftAndMostCommentedSummariesFollowRepairedCounters() {
+        commentService.insert(3L, "popular");
+        long books = bookRepository.count();
+        tem.getEntityManager().createNativeQuery("update books set comment_count = 42, last_commented_at = null")
+                .executeUpdate();
+
+        int repaired = commentStatsRepairService.repairAll();
+
+        assertThat(repaired).isEqualTo(books);
+        var mostCommented = bookService.findMostCommented(100);
+        assertThat(mostCommented).hasSize((int) books)
+                .extracting(BookSummary::commentCount)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(mostCommented).allSatisfy(book ->
+                assertThat(new Stats(book.commentCount(), book.lastCommentedAt())).isEqualTo(actualStats(book.id())));
+    }
+
+    private Stats storedStats(long bookId) {
+        return toStats(tem.getEntityManager()
+                .createQuery("select b.commentCount, b.lastCommentedAt from Book b where b.id = :id", Tuple.class)
+                .setParameter("id", bookId)
+                .getSingleResult());
+    }
+
+    private Stats actualStats(long bookId) {
+        return toStats(tem.getEntityManager()
+                .createQuery("select count(c), max(c.createdAt) from Comment c where c.book.id = :id", Tuple.class)
+                .setParameter("id", bookId)
+                .getSingleResult());
+    }
+
+    private static Stats toStats(Tuple tuple) {
+        return new Stats(tuple.get(0, Long.class), tuple.get(1, LocalDateTime.class));
+    }
+
+    private record Stats(long count, LocalDateTime lastCommentedAt) {
+    }
+}
@@ -0,0 +1,157 @@
+package ru.otus.hw.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import ru.otus.hw.converters.AuthorConverter;
+import ru.otus.hw.converters.BookConverter;
+import ru.otus.hw.converters.CommentConverter;
+import ru.otus.hw.converters.GenreConverter;
+import ru.otus.hw.support.QueryCounter;
+import ru.otus.hw.support.QueryReportExtension;
+
+import java.util.ArrayList;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ExtendWith(QueryReportExtension.class)
+@Import({AuthorServiceImpl.class, GenreServiceImpl.class, BookServiceImpl.class, CommentServiceImpl.class,
+        AuthorConverter.class, GenreConverter.class, BookConverter.class, CommentConverter.class})
+class QueryBudgetTest {
+
+    @Autowired
+    TestEntityManager tem;
+
+    @Autowired
+    AuthorService authorService;
+
+    @Autowired
+    GenreService genreService;
+
+    @Autowired
+    BookService bookService;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    AuthorConverter authorConverter;
+
+    @Autowired
+    GenreConverter genreConverter;
+
+    @Autowired
+    BookConverter bookConverter;
+
+    @Autowired
+    CommentConverter commentConverter;
+
+    @BeforeEach
+    void startCold() {
+        tem.getEntityManager().getEntityManagerFactory().getCache().evictAll();
+        tem.clear();
+    }
+
+    @Test
+    void authorAndGenreListings(QueryCounter queries) {
+        queries.withinBudget("AuthorService.findAll", 1,
+                () -> authorService.findAll().forEach(authorConverter::authorToString));
+        queries.withinBudget("GenreService.findAll", 1,
+                () -> genreService.findAll().forEach(genreConverter::genreToString));
+    }
+
+    @Test
+    void bookReads(QueryCounter queries) {
+        queries.withinBudget("BookService.findById", 1,
+                () -> bookService.findById(1L).map(bookConverter::bookToString));
+        tem.clear();
+        var listing = queries.count("BookService.findAll",
+                () -> bookService.findAll().forEach(book -> bookConverter.appendBookSummary(new StringBuilder(), book)));
+        assertThat(listing.statements()).isEqualTo(1);
+        assertThat(listing.entityLoads()).isZero();
+        tem.clear();
+        var streaming = queries.count("BookService.forEach",
+                () -> bookService.forEach(book -> bookConverter.appendBookSummary(new StringBuilder(), book)));
+        assertThat(streaming.statements()).isEqualTo(1);
+        assertThat(streaming.entityLoads()).isZero();
+    }
+
+    @Test
+    void bookWrites(QueryCounter queries) {
+        var book = queries.withinBudget("BookService.insert", 5, () -> {
+            var inserted = bookService.insert("Budget", 1L, Set.of(1L, 2L));
+            tem.flush();
+            return inserted;
+        });
+        tem.clear();
+        queries.withinBudget("BookService.update", 7, () -> {
+            bookService.update(book.getId(), "Budget 2", 2L, Set.of(2L, 3L));
+            tem.flush();
+        });
+        tem.clear();
+        queries.withinBudget("BookService.deleteById", 3, () -> {
+            bookService.deleteById(book.getId());
+            tem.flush();
+        });
+        assertThat(bookService.findById(book.getId())).isEmpty();
+    }
+
+    @Test
+    void commentReads(QueryCounter queries) {
+        queries.withinBudget("CommentService.findById", 2,
+                () -> commentService.findById(1L).map(commentConverter::commentToStringWithBook));
+        tem.clear();
+        queries.withinBudget("CommentService.findByBookId", 1,
+                () -> commentService.findByBookId(1L).forEach(commentConverter::commentToStringWithBook));
+    }
+
+    @Test
+    void commentPagesCostOneStatementEach(QueryCounter queries) {
+        var texts = new ArrayList<String>();
+        for (int i = 0; i < 7; i++) {
+            texts.add(commentService.insert(1L, "Paged " + i).getText());
+        }
+        tem.flush();
+        tem.clear();
+
+        var walked = new ArrayList<String>();
+        String cursor = null;
+        int pageNumber = 0;
+        do {
+            var currentCursor = cursor;
+            var page = queries.withinBudget("CommentService.findByBookId(page %d)".formatted(pageNumber++), 1,
+                    () -> commentService.findByBookId(1L, currentCursor, 3));
+            page.comments().forEach(comment -> walked.add(commentConverter.commentToString(comment)));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(walked).hasSize(commentService.findByBookId(1L).size());
+        assertThat(walked).anyMatch(line -> line.contains(texts.get(0)));
+    }
+
+    @Test
+    void commentWrites(QueryCounter queries) {
+        var comment = queries.withinBudget("CommentService.insert", 3, () -> {
+            var inserted = commentService.insert(1L, "Budget");
+            tem.flush();
+            return inserted;
+        });
+        tem.clear();
+        queries.withinBudget("CommentService.update", 2, () -> {
+            commentService.update(comment.getId(), "Budget 2");
+            tem.flush();
+        });
+        tem.clear();
+        queries.withinBudget("CommentService.deleteById", 3, () -> {
+            commentService.deleteById(comment.getId());
+            tem.flush();
+        });
+        assertThat(commentService.findById(comment.getId())).isEmpty();
+    }
+}
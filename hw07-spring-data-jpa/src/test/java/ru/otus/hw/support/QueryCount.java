@@ -0,0 +1,33 @@
+package ru.otus.hw.support;
+
+import org.hibernate.stat.Statistics;
+
+public record QueryCount(long statements, long queries, long entityLoads, long entityFetches,
+                         long collectionFetches, long secondLevelCacheHits) {
+
+    static QueryCount of(Statistics statistics) {
+        return new QueryCount(
+                statistics.getPrepareStatementCount(),
+                statistics.getQueryExecutionCount(),
+                statistics.getEntityLoadCount(),
+                statistics.getEntityFetchCount(),
+                statistics.getCollectionFetchCount(),
+                statistics.getSecondLevelCacheHitCount());
+    }
+
+    QueryCount minus(QueryCount other) {
+        return new QueryCount(
+                statements - other.statements,
+                queries - other.queries,
+                entityLoads - other.entityLoads,
+                entityFetches - other.entityFetches,
+                collectionFetches - other.collectionFetches,
+                secondLevelCacheHits - other.secondLevelCacheHits);
+    }
+
+    @Override
+    public String toString() {
+        return "statements=%d, queries=%d, entityLoads=%d, entityFetches=%d, collectionFetches=%d, l2Hits=%d"
+                .formatted(statements, queries, entityLoads, entityFetches, collectionFetches, secondLevelCacheHits);
+    }
+}
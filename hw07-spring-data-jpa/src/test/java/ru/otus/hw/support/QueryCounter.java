@@ -0,0 +1,62 @@
+package ru.otus.hw.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public class QueryCounter {
+
+    private final Statistics statistics;
+
+    private final Map<String, QueryCount> measurements = new LinkedHashMap<>();
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            throw new IllegalStateException("hibernate.generate_statistics must be enabled to count queries");
+        }
+    }
+
+    public QueryCount snapshot() {
+        return QueryCount.of(statistics);
+    }
+
+    public QueryCount count(String label, Runnable block) {
+        var before = snapshot();
+        block.run();
+        return record(label, before);
+    }
+
+    public void withinBudget(String label, long maxStatements, Runnable block) {
+        withinBudget(label, maxStatements, () -> {
+            block.run();
+            return null;
+        });
+    }
+
+    public <T> T withinBudget(String label, long maxStatements, Supplier<T> block) {
+        var before = snapshot();
+        var result = block.get();
+        var count = record(label, before);
+        if (count.statements() > maxStatements) {
+            throw new AssertionError("Query budget exceeded for %s: expected at most %d statements but was %d (%s)"
+                    .formatted(label, maxStatements, count.statements(), count));
+        }
+        return result;
+    }
+
+    public Map<String, QueryCount> measurements() {
+        return Collections.unmodifiableMap(measurements);
+    }
+
+    private QueryCount record(String label, QueryCount before) {
+        var count = snapshot().minus(before);
+        measurements.put(label, count);
+        return count;
+    }
+}
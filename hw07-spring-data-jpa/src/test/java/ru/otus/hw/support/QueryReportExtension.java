@@ -0,0 +1,50 @@
+package ru.otus.hw.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@Slf4j
+public class QueryReportExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(QueryReportExtension.class);
+
+    private static final String COUNTER_KEY = "counter";
+
+    private static final String START_KEY = "start";
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        var entityManagerFactory = SpringExtension.getApplicationContext(context).getBean(EntityManagerFactory.class);
+        var counter = new QueryCounter(entityManagerFactory);
+        var store = context.getStore(NAMESPACE);
+        store.put(COUNTER_KEY, counter);
+        store.put(START_KEY, counter.snapshot());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        var store = context.getStore(NAMESPACE);
+        var counter = store.get(COUNTER_KEY, QueryCounter.class);
+        var total = counter.snapshot().minus(store.get(START_KEY, QueryCount.class));
+        log.info("{}.{}: {}", context.getRequiredTestClass().getSimpleName(),
+                context.getRequiredTestMethod().getName(), total);
+        counter.measurements().forEach((label, count) -> log.info("  {}: {}", label, count));
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == QueryCounter.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return extensionContext.getStore(NAMESPACE).get(COUNTER_KEY, QueryCounter.class);
+    }
+}
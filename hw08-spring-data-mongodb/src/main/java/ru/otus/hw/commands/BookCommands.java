@@ -1,34 +1,57 @@
 package ru.otus.hw.commands;
 
 import lombok.RequiredArgsConstructor;
+import org.jline.terminal.Terminal;
 import org.springframework.shell.standard.ShellComponent;
 import org.springframework.shell.standard.ShellMethod;
+import org.springframework.shell.standard.ShellOption;
 import ru.otus.hw.converters.BookConverter;
+import ru.otus.hw.models.Book;
 import ru.otus.hw.services.BookService;
+import ru.otus.hw.services.CommentStatsRepairService;
 
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 @SuppressWarnings({"SpellCheckingInspection", "unused"})
 @RequiredArgsConstructor
 @ShellComponent
 public class BookCommands {
 
+    private static final int OUTPUT_FLUSH_THRESHOLD = 8192;
+
     private final BookService bookService;
 
+    private final CommentStatsRepairService commentStatsRepairService;
+
     private final BookConverter bookConverter;
 
+    private final Terminal terminal;
+
     @ShellMethod(value = "Find all books", key = "ab")
-    public String findAllBooks() {
-        var books = bookService.findAll();
-        var header = bookConverter.headerWithCount(books.size());
-        if (books.isEmpty()) {
-            return header + System.lineSeparator() + "— nothing to show —";
+    public void findAllBooks() {
+        var printed = printBooks(bookService::forEach);
+        var writer = terminal.writer();
+        writer.println(bookConverter.footerWithCount(printed));
+        if (printed == 0) {
+            writer.println("— nothing to show —");
         }
-        var body = books.stream()
-                .map(bookConverter::bookToString)
-                .collect(Collectors.joining(System.lineSeparator()));
-        return header + System.lineSeparator() + body;
+        writer.flush();
+    }
+
+    @ShellMethod(value = "Find most commented books", key = "abpop")
+    public String findMostCommentedBooks(@ShellOption(defaultValue = "10") int limit) {
+        var buffer = new StringBuilder();
+        for (var book : bookService.findMostCommented(limit)) {
+            bookConverter.appendBook(buffer, book).append(System.lineSeparator());
+        }
+        return buffer.toString();
+    }
+
+    @ShellMethod(value = "Recompute comment counters of all books", key = "bcrepair")
+    public String repairCommentStats() {
+        return "Recomputed comment counters of %d books".formatted(commentStatsRepairService.repairAll());
     }
 
     @ShellMethod(value = "Find book by id", key = "bbid")
@@ -55,4 +78,19 @@ public class BookCommands {
         bookService.deleteById(id);
         return "Deleted book %s (if existed)".formatted(id);
     }
-}
\ No newline at end of file
+
+    private long printBooks(Consumer<Consumer<Book>> books) {
+        var writer = terminal.writer();
+        var buffer = new StringBuilder(OUTPUT_FLUSH_THRESHOLD);
+        var printed = new AtomicLong();
+        books.accept(book -> {
+            bookConverter.appendBook(buffer, book).append(System.lineSeparator());
+            if (printed.incrementAndGet() == 1 || buffer.length() >= OUTPUT_FLUSH_THRESHOLD) {
+                writer.append(buffer).flush();
+                buffer.setLength(0);
+            }
+        });
+        writer.append(buffer).flush();
+        return printed.get();
+    }
+}
@@ -10,6 +10,7 @@ import ru.otus.hw.repositories.AuthorRepository;
 import ru.otus.hw.repositories.BookRepository;
 import ru.otus.hw.repositories.CommentRepository;
 import ru.otus.hw.repositories.GenreRepository;
+import ru.otus.hw.services.CommentStatsRepairService;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -26,6 +27,8 @@ public class DataSeeder {
 
     private final CommentRepository comments;
 
+    private final CommentStatsRepairService commentStatsRepairService;
+
     public void seed() {
         if (authors.count() > 0) {
             return;
@@ -34,6 +37,7 @@ public class DataSeeder {
         var savedGenres = seedGenres();
         var savedBooks = seedBooks(savedAuthors, savedGenres);
         seedComments(savedBooks);
+        commentStatsRepairService.repairAll();
     }
 
     private List<Author> seedAuthors() {
@@ -61,9 +65,9 @@ public class DataSeeder {
         var g6 = genres.get(5).getId();
 
         return List.of(
-                books.save(new Book(null, "BookTitle_1", authors.get(0).getId(), List.of(g1, g2))),
-                books.save(new Book(null, "BookTitle_2", authors.get(1).getId(), List.of(g3, g4))),
-                books.save(new Book(null, "BookTitle_3", authors.get(2).getId(), List.of(g5, g6)))
+                books.save(new Book(null, "BookTitle_1", authors.get(0).getId(), List.of(g1, g2), 0, null)),
+                books.save(new Book(null, "BookTitle_2", authors.get(1).getId(), List.of(g3, g4), 0, null)),
+                books.save(new Book(null, "BookTitle_3", authors.get(2).getId(), List.of(g5, g6), 0, null))
         );
     }
 
@@ -4,9 +4,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import ru.otus.hw.models.Book;
 
-import java.util.stream.Collectors;
-
-
 @RequiredArgsConstructor
 @Component
 public class BookConverter {
@@ -15,23 +12,33 @@ public class BookConverter {
         if (book == null) {
             return "";
         }
+        return appendBook(new StringBuilder(), book).toString();
+    }
 
-        String id = book.getId() == null ? "-" : book.getId();
-        String title = book.getTitle().trim();
-        String authorId = book.getAuthorId().trim();
-
-        String genres = (book.getGenreIds() == null || book.getGenreIds().isEmpty())
-                ? "-"
-                : book.getGenreIds().stream()
-                .map(String::trim)
-                .map("{%s}"::formatted)
-                .collect(Collectors.joining(", "));
-
-        return "%s  \"%s\"  authorId=%s  genres=[%s]"
-                .formatted(id, title, authorId, genres);
+    public StringBuilder appendBook(StringBuilder target, Book book) {
+        target.append(book.getId() == null ? "-" : book.getId())
+                .append("  \"").append(book.getTitle().trim())
+                .append("\"  authorId=").append(book.getAuthorId().trim())
+                .append("  genres=[");
+        var genreIds = book.getGenreIds();
+        if (genreIds == null || genreIds.isEmpty()) {
+            target.append('-');
+        } else {
+            for (int i = 0; i < genreIds.size(); i++) {
+                if (i > 0) {
+                    target.append(", ");
+                }
+                target.append('{').append(genreIds.get(i).trim()).append('}');
+            }
+        }
+        target.append("]  comments=").append(book.getCommentCount());
+        if (book.getLastCommentedAt() != null) {
+            target.append("  lastCommentedAt=").append(book.getLastCommentedAt());
+        }
+        return target;
     }
 
-    public String headerWithCount(int count) {
+    public String footerWithCount(long count) {
         return "Books (%d)".formatted(count);
     }
 }
@@ -6,9 +6,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,7 +18,10 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@CompoundIndex(name = "uniq_title_author", def = "{'title': 1, 'authorId': 1}", unique = true)
+@CompoundIndexes({
+        @CompoundIndex(name = "uniq_title_author", def = "{'title': 1, 'authorId': 1}", unique = true),
+        @CompoundIndex(name = "idx_books_commentCount", def = "{'commentCount': -1, '_id': 1}")
+})
 public class Book {
 
     @Id
@@ -31,4 +36,8 @@ public class Book {
 
     @Indexed
     private List<String> genreIds = new ArrayList<>();
+
+    private long commentCount;
+
+    private Instant lastCommentedAt;
 }
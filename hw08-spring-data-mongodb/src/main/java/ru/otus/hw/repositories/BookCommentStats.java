@@ -0,0 +1,6 @@
+package ru.otus.hw.repositories;
+
+import java.time.Instant;
+
+public record BookCommentStats(String id, long commentCount, Instant lastCommentedAt) {
+}
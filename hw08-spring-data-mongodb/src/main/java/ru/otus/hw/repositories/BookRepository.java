@@ -1,11 +1,16 @@
 package ru.otus.hw.repositories;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 import ru.otus.hw.models.Book;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookRepository extends MongoRepository<Book, String> {
@@ -16,4 +21,27 @@ public interface BookRepository extends MongoRepository<Book, String> {
 
     boolean existsByAuthorId(String authorId);
 
+    Stream<Book> streamAllBy();
+
+    List<Book> findAllByOrderByCommentCountDescIdAsc(Limit limit);
+
+    List<Book> findByIdGreaterThanOrderByIdAsc(String id, Limit limit);
+
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$set': { 'title': ?1, 'authorId': ?2, 'genreIds': ?3 } }")
+    long updateDetails(String id, String title, String authorId, List<String> genreIds);
+
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$inc': { 'commentCount': 1 }, '$max': { 'lastCommentedAt': ?1 } }")
+    long incrementCommentCount(String id, Instant commentedAt);
+
+    @Query("{ '_id': ?0 }")
+    @Update("{ '$inc': { 'commentCount': -1 } }")
+    long decrementCommentCount(String id);
+
+    @Query("{ '_id': ?0, 'lastCommentedAt': ?1 }")
+    @Update("{ '$inc': { 'commentCount': -1 }, '$set': { 'lastCommentedAt': ?2 } }")
+    long decrementCommentCountReplacingLastCommentedAt(String id, Instant deletedCommentedAt,
+                                                       Instant lastCommentedAt);
+
 }
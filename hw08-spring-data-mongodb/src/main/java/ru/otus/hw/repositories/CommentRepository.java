@@ -1,15 +1,27 @@
 package ru.otus.hw.repositories;
 
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 import ru.otus.hw.models.Comment;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CommentRepository extends MongoRepository<Comment, String> {
 
     List<Comment> findByBookIdOrderByCreatedAtDesc(String bookId);
 
+    Optional<Comment> findFirstByBookIdOrderByCreatedAtDesc(String bookId);
+
+    @Aggregation(pipeline = {
+            "{ '$match': { 'bookId': { '$in': ?0 } } }",
+            "{ '$group': { '_id': '$bookId', 'commentCount': { '$sum': 1 }, " +
+                    "'lastCommentedAt': { '$max': '$createdAt' } } }"
+    })
+    List<BookCommentStats> aggregateStatsByBookIds(Collection<String> bookIds);
+
     long deleteByBookId(String bookId);
 }
\ No newline at end of file
@@ -5,12 +5,17 @@ import ru.otus.hw.models.Book;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 public interface BookService {
     Optional<Book> findById(String id);
 
     List<Book> findAll();
 
+    void forEach(Consumer<Book> action);
+
+    List<Book> findMostCommented(int limit);
+
     Book insert(String title, String authorId, Set<String> genresIds);
 
     Book update(String id, String title, String authorId, Set<String> genresIds);
@@ -2,6 +2,7 @@ package ru.otus.hw.services;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import ru.otus.hw.exceptions.ConflictException;
 import ru.otus.hw.exceptions.EntityNotFoundException;
@@ -16,6 +17,7 @@ import ru.otus.hw.repositories.GenreRepository;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
@@ -40,13 +42,28 @@ public class BookServiceImpl implements BookService {
         return bookRepository.findAll();
     }
 
+    @Override
+    public void forEach(Consumer<Book> action) {
+        try (var books = bookRepository.streamAllBy()) {
+            books.forEach(action);
+        }
+    }
+
+    @Override
+    public List<Book> findMostCommented(int limit) {
+        if (limit <= 0) {
+            throw new ValidationException("Limit must be positive");
+        }
+        return bookRepository.findAllByOrderByCommentCountDescIdAsc(Limit.of(limit));
+    }
+
     @Override
     public Book insert(String title, String authorId, Set<String> genresIds) {
         validateTitle(title);
         validateAuthorExists(authorId);
         var genreIdsList = validateAndNormalizeGenreIds(genresIds);
 
-        var book = new Book(null, title.trim(), authorId, genreIdsList);
+        var book = new Book(null, title.trim(), authorId, genreIdsList, 0, null);
         try {
             return bookRepository.save(book);
         } catch (DataIntegrityViolationException e) {
@@ -68,7 +85,8 @@ public class BookServiceImpl implements BookService {
         existing.setGenreIds(genreIdsList);
 
         try {
-            return bookRepository.save(existing);
+            bookRepository.updateDetails(id, existing.getTitle(), authorId, genreIdsList);
+            return existing;
         } catch (DataIntegrityViolationException e) {
             throw new ConflictException("Книга с таким названием для этого автора уже существует");
         }
@@ -48,7 +48,9 @@ public class CommentServiceImpl implements CommentService {
                 Instant.now(),
                 bookId
         );
-        return commentRepository.save(comment);
+        var saved = commentRepository.save(comment);
+        bookRepository.incrementCommentCount(bookId, saved.getCreatedAt());
+        return saved;
     }
 
     @Override
@@ -64,10 +66,18 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     public void deleteById(String id) {
-        if (!commentRepository.existsById(id)) {
-            return;
-        }
-        commentRepository.deleteById(id);
+        commentRepository.findById(id).ifPresent(comment -> {
+            commentRepository.deleteById(id);
+            var bookId = comment.getBookId();
+            var lastCommentedAt = commentRepository.findFirstByBookIdOrderByCreatedAtDesc(bookId)
+                    .map(Comment::getCreatedAt)
+                    .orElse(null);
+            var replaced = bookRepository.decrementCommentCountReplacingLastCommentedAt(
+                    bookId, comment.getCreatedAt(), lastCommentedAt);
+            if (replaced == 0) {
+                bookRepository.decrementCommentCount(bookId);
+            }
+        });
     }
 
     private void validateText(String text) {
@@ -0,0 +1,63 @@
+package ru.otus.hw.services;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.repositories.BookCommentStats;
+import ru.otus.hw.repositories.BookRepository;
+import ru.otus.hw.repositories.CommentRepository;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Service
+public class CommentStatsRepairServiceImpl implements CommentStatsRepairService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String FIRST_ID = "000000000000000000000000";
+
+    private final BookRepository bookRepository;
+
+    private final CommentRepository commentRepository;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public int repairAll() {
+        var lastId = FIRST_ID;
+        int repaired = 0;
+        List<Book> books;
+        do {
+            books = bookRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(BATCH_SIZE));
+            if (!books.isEmpty()) {
+                repairBatch(books);
+                lastId = books.get(books.size() - 1).getId();
+                repaired += books.size();
+            }
+        } while (books.size() == BATCH_SIZE);
+        return repaired;
+    }
+
+    private void repairBatch(List<Book> books) {
+        var ids = books.stream().map(Book::getId).toList();
+        var stats = commentRepository.aggregateStatsByBookIds(ids).stream()
+                .collect(Collectors.toMap(BookCommentStats::id, Function.identity()));
+        var bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Book.class);
+        for (var id : ids) {
+            var bookStats = stats.get(id);
+            bulk.updateOne(Query.query(Criteria.where("_id").is(id)), new Update()
+                    .set("commentCount", bookStats == null ? 0 : bookStats.commentCount())
+                    .set("lastCommentedAt", bookStats == null ? null : bookStats.lastCommentedAt()));
+        }
+        bulk.execute();
+    }
+}
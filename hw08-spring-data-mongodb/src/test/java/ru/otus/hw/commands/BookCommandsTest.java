@@ -0,0 +1,88 @@
+package ru.otus.hw.commands;
+
+import org.jline.terminal.Terminal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.otus.hw.converters.BookConverter;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.services.BookService;
+import ru.otus.hw.services.CommentStatsRepairService;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookCommandsTest {
+
+    @Mock
+    private BookService bookService;
+
+    @Mock
+    private CommentStatsRepairService commentStatsRepairService;
+
+    @Mock
+    private Terminal terminal;
+
+    private final StringWriter output = new StringWriter();
+
+    private BookCommands bookCommands;
+
+    @BeforeEach
+    void setUp() {
+        when(terminal.writer()).thenReturn(new PrintWriter(output));
+        bookCommands = new BookCommands(bookService, commentStatsRepairService, new BookConverter(), terminal);
+    }
+
+    @Test
+    @DisplayName("ab: печатает книги из потока и их количество одним проходом")
+    void findAllBooks_printsStreamedBooksAndTheirCount() {
+        var commentedAt = Instant.parse("2024-01-02T03:04:05Z");
+        streamBooks(
+                new Book("b1", "BookTitle_1", "a1", List.of("g1", "g2"), 2, commentedAt),
+                new Book("b2", "BookTitle_2", "a2", List.of(), 0, null));
+
+        bookCommands.findAllBooks();
+
+        assertThat(output.toString()).isEqualTo(
+                "b1  \"BookTitle_1\"  authorId=a1  genres=[{g1}, {g2}]  comments=2"
+                        + "  lastCommentedAt=2024-01-02T03:04:05Z" + System.lineSeparator()
+                        + "b2  \"BookTitle_2\"  authorId=a2  genres=[-]  comments=0" + System.lineSeparator()
+                        + "Books (2)" + System.lineSeparator());
+        verify(bookService).forEach(any());
+        verifyNoMoreInteractions(bookService);
+    }
+
+    @Test
+    @DisplayName("ab: без книг печатает нулевой счётчик и заглушку")
+    void findAllBooks_printsPlaceholderWhenThereAreNoBooks() {
+        streamBooks();
+
+        bookCommands.findAllBooks();
+
+        assertThat(output.toString()).isEqualTo(
+                "Books (0)" + System.lineSeparator() + "— nothing to show —" + System.lineSeparator());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamBooks(Book... books) {
+        doAnswer(invocation -> {
+            Consumer<Book> action = invocation.getArgument(0);
+            List.of(books).forEach(action);
+            return null;
+        }).when(bookService).forEach(any(Consumer.class));
+    }
+}
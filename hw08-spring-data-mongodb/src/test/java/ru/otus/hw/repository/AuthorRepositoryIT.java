@@ -15,6 +15,7 @@ import ru.otus.hw.repositories.AuthorRepository;
 import ru.otus.hw.repositories.BookRepository;
 import ru.otus.hw.repositories.CommentRepository;
 import ru.otus.hw.repositories.GenreRepository;
+import ru.otus.hw.services.CommentStatsRepairServiceImpl;
 
 import java.time.Instant;
 
@@ -23,7 +24,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataMongoTest
 @ActiveProfiles("test")
-@Import(DataSeeder.class)
+@Import({DataSeeder.class, CommentStatsRepairServiceImpl.class})
 class AuthorRepositoryIT {
 
     @Autowired
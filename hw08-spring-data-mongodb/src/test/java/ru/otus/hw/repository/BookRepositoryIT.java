@@ -16,6 +16,7 @@ import ru.otus.hw.repositories.AuthorRepository;
 import ru.otus.hw.repositories.BookRepository;
 import ru.otus.hw.repositories.CommentRepository;
 import ru.otus.hw.repositories.GenreRepository;
+import ru.otus.hw.services.CommentStatsRepairServiceImpl;
 
 import java.time.Instant;
 import java.util.List;
@@ -26,7 +27,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 @DataMongoTest
 @ActiveProfiles("test")
 @EnableMongoRepositories(basePackageClasses = BookRepository.class)
-@Import(DataSeeder.class)
+@Import({DataSeeder.class, CommentStatsRepairServiceImpl.class})
 class BookRepositoryIT {
 
     @Autowired
@@ -101,8 +102,21 @@ class BookRepositoryIT {
     void unique_titleAuthor_duplicate() {
         String anyGenreId = genreRepository.findAll().get(0).getId();
 
-        Book dup = new Book(null, "BookTitle_1", author1Id, List.of(anyGenreId));
+        Book dup = new Book(null, "BookTitle_1", author1Id, List.of(anyGenreId), 0, null);
         assertThatThrownBy(() -> bookRepository.save(dup))
                 .isInstanceOf(DuplicateKeyException.class);
     }
+
+    @Test
+    @DisplayName("streamAllBy: отдаёт курсором все книги из сидера")
+    void streamAllBy_returnsAllBooks() {
+        List<Book> streamed;
+        try (var books = bookRepository.streamAllBy()) {
+            streamed = books.toList();
+        }
+
+        assertThat(streamed)
+                .extracting(Book::getId)
+                .containsExactlyInAnyOrderElementsOf(bookRepository.findAll().stream().map(Book::getId).toList());
+    }
 }
@@ -15,6 +15,7 @@ import ru.otus.hw.repositories.AuthorRepository;
 import ru.otus.hw.repositories.BookRepository;
 import ru.otus.hw.repositories.CommentRepository;
 import ru.otus.hw.repositories.GenreRepository;
+import ru.otus.hw.services.CommentStatsRepairServiceImpl;
 
 import java.time.Instant;
 import java.util.List;
@@ -25,7 +26,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 @ActiveProfiles("test")
 @EnableMongoRepositories(basePackageClasses = CommentRepository.class)
 @EnableMongoAuditing
-@Import(DataSeeder.class)
+@Import({DataSeeder.class, CommentStatsRepairServiceImpl.class})
 class CommentRepositoryIT {
 
     @Autowired
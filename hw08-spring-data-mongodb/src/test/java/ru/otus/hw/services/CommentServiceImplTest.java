@@ -0,0 +1,103 @@
+package ru.otus.hw.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.otus.hw.models.Comment;
+import ru.otus.hw.repositories.BookRepository;
+import ru.otus.hw.repositories.CommentRepository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceImplTest {
+
+    private static final Instant OLDER = Instant.parse("2024-01-01T10:00:00Z");
+
+    private static final Instant NEWEST = Instant.parse("2024-01-02T10:00:00Z");
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @InjectMocks
+    private CommentServiceImpl commentService;
+
+    @Test
+    @DisplayName("insert: увеличивает счётчик книги и сдвигает lastCommentedAt через $max")
+    void insert_incrementsCounterWithSavedTimestamp() {
+        when(bookRepository.existsById("b1")).thenReturn(true);
+        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var saved = commentService.insert("b1", "  counted  ");
+
+        assertThat(saved.getText()).isEqualTo("counted");
+        verify(bookRepository).incrementCommentCount("b1", saved.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("deleteById: удаление самого нового комментария заменяет lastCommentedAt условным обновлением")
+    void deleteById_newestComment_replacesLastCommentedAtOnlyWhileItStillMatches() {
+        when(commentRepository.findById("c2")).thenReturn(Optional.of(new Comment("c2", "newest", NEWEST, "b1")));
+        when(commentRepository.findFirstByBookIdOrderByCreatedAtDesc("b1"))
+                .thenReturn(Optional.of(new Comment("c1", "older", OLDER, "b1")));
+        when(bookRepository.decrementCommentCountReplacingLastCommentedAt("b1", NEWEST, OLDER)).thenReturn(1L);
+
+        commentService.deleteById("c2");
+
+        var order = inOrder(commentRepository, bookRepository);
+        order.verify(commentRepository).deleteById("c2");
+        order.verify(bookRepository).decrementCommentCountReplacingLastCommentedAt("b1", NEWEST, OLDER);
+        verify(bookRepository, never()).decrementCommentCount("b1");
+    }
+
+    @Test
+    @DisplayName("deleteById: если lastCommentedAt уже сдвинут другим комментарием, только уменьшает счётчик")
+    void deleteById_lastCommentedAtMovedOn_onlyDecrementsCounter() {
+        when(commentRepository.findById("c1")).thenReturn(Optional.of(new Comment("c1", "older", OLDER, "b1")));
+        when(commentRepository.findFirstByBookIdOrderByCreatedAtDesc("b1"))
+                .thenReturn(Optional.of(new Comment("c2", "newest", NEWEST, "b1")));
+        when(bookRepository.decrementCommentCountReplacingLastCommentedAt("b1", OLDER, NEWEST)).thenReturn(0L);
+
+        commentService.deleteById("c1");
+
+        verify(bookRepository).decrementCommentCount("b1");
+    }
+
+    @Test
+    @DisplayName("deleteById: удаление последнего комментария книги обнуляет lastCommentedAt")
+    void deleteById_lastRemainingComment_clearsLastCommentedAt() {
+        when(commentRepository.findById("c1")).thenReturn(Optional.of(new Comment("c1", "only", OLDER, "b1")));
+        when(commentRepository.findFirstByBookIdOrderByCreatedAtDesc("b1")).thenReturn(Optional.empty());
+        when(bookRepository.decrementCommentCountReplacingLastCommentedAt("b1", OLDER, null)).thenReturn(1L);
+
+        commentService.deleteById("c1");
+
+        verify(bookRepository, never()).decrementCommentCount("b1");
+    }
+
+    @Test
+    @DisplayName("deleteById: несуществующий комментарий не трогает счётчики")
+    void deleteById_missingComment_leavesCountersAlone() {
+        when(commentRepository.findById("missing")).thenReturn(Optional.empty());
+
+        commentService.deleteById("missing");
+
+        verify(commentRepository, never()).deleteById("missing");
+        verifyNoInteractions(bookRepository);
+    }
+}
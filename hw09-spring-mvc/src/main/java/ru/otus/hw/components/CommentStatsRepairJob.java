@@ -0,0 +1,21 @@
+package ru.otus.hw.components;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.otus.hw.services.CommentStatsRepairService;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentStatsRepairJob {
+
+    private final CommentStatsRepairService commentStatsRepairService;
+
+    @Scheduled(cron = "${app.comment-stats.repair-cron:0 30 3 * * *}")
+    public void repairCommentStats() {
+        int repaired = commentStatsRepairService.repairAll();
+        log.info("Recomputed comment counters of {} books", repaired);
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import ru.otus.hw.dto.BookDetailsDto;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -43,8 +44,9 @@ public class BookController {
     private final CommentMapper commentMapper;
 
     @GetMapping
-    public String list(Model model) {
-        var items = bookService.findAll().stream()
+    public String list(@RequestParam(name = "sort", required = false) String sort, Model model) {
+        var books = "popular".equals(sort) ? bookService.findAllMostCommentedFirst() : bookService.findAll();
+        var items = books.stream()
                 .map(bookMapper::toListItemDto)
                 .toList();
         model.addAttribute("books", items);
@@ -40,7 +40,9 @@ public interface BookMapper {
 
     @Mappings({
             @Mapping(target = "author", source = "authorId", qualifiedByName = "resolveAuthor"),
-            @Mapping(target = "genres", ignore = true)
+            @Mapping(target = "genres", ignore = true),
+            @Mapping(target = "commentCount", ignore = true),
+            @Mapping(target = "lastCommentedAt", ignore = true)
     })
     Book fromForm(BookForm form, @Context AuthorRefResolver authorRef, @Context GenreRefResolver genreRef);
 
@@ -48,7 +50,9 @@ public interface BookMapper {
             @Mapping(target = "author", source = "authorId", qualifiedByName = "resolveAuthor"),
             @Mapping(target = "version", source = "version"),
             @Mapping(target = "title", source = "title"),
-            @Mapping(target = "genres", ignore = true)
+            @Mapping(target = "genres", ignore = true),
+            @Mapping(target = "commentCount", ignore = true),
+            @Mapping(target = "lastCommentedAt", ignore = true)
     })
     void updateFromForm(BookForm form, @MappingTarget Book target,
                         @Context AuthorRefResolver authorRef, @Context GenreRefResolver genreRef);
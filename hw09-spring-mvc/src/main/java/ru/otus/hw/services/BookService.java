@@ -12,6 +12,8 @@ public interface BookService {
 
     List<Book> findAll();
 
+    List<Book> findAllMostCommentedFirst();
+
     Book insert(String title, long authorId, Set<Long> genresIds);
 
     Book update(long id, String title, long authorId, Set<Long> genresIds);
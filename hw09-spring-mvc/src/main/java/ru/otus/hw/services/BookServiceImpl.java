@@ -44,6 +44,12 @@ public class BookServiceImpl implements BookService {
         return bookRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Book> findAllMostCommentedFirst() {
+        return bookRepository.findAllByOrderByCommentCountDescIdAsc();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<Book> findAll(Pageable pageable) {
@@ -1,7 +1,6 @@
 package ru.otus.hw.services;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -50,8 +49,9 @@ public class CommentServiceImpl implements CommentService {
                 .orElseThrow(() -> new NotFoundException(
                         "Book with id %d not found".formatted(bookId)));
 
-        var comment = new Comment(normalized, book);
-        return commentRepository.save(comment);
+        var comment = commentRepository.save(new Comment(normalized, book));
+        bookRepository.incrementCommentCount(bookId, comment.getCreatedAt());
+        return comment;
     }
 
     @Override
@@ -70,12 +70,12 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional
     public void deleteById(long id) {
-        try {
-            commentRepository.deleteById(id);
-        } catch (EmptyResultDataAccessException e) {
-            throw new NotFoundException(
-                    "Comment with id %d not found".formatted(id), e);
-        }
+        var comment = commentRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException(
+                        "Comment with id %d not found".formatted(id)));
+
+        commentRepository.delete(comment);
+        bookRepository.decrementCommentCount(comment.getBook().getId());
     }
 
 
@@ -0,0 +1,5 @@
+package ru.otus.hw.services;
+
+public interface CommentStatsRepairService {
+    int repairAll();
+}
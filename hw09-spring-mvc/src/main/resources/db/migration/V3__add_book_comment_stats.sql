@@ -0,0 +1,8 @@
+ALTER TABLE books ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE books ADD COLUMN last_commented_at TIMESTAMP WITH TIME ZONE;
+
+UPDATE books b
+SET comment_count     = (SELECT COUNT(*) FROM comments c WHERE c.book_id = b.id),
+    last_commented_at = (SELECT MAX(c.created_at) FROM comments c WHERE c.book_id = b.id);
+
+CREATE INDEX idx_books_comment_count ON books (comment_count DESC, id);
@@ -25,6 +25,7 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -66,7 +67,7 @@ class BookControllerTest {
     void shouldReturnBooksListView() throws Exception {
         // entity
         var author = new Author("Author1");
-        var book = new Book(1L, "Book1", author, Set.of(), 0L);
+        var book = new Book(1L, "Book1", author, Set.of(), 0L, 0, null);
         Mockito.when(bookService.findAll()).thenReturn(List.of(book));
 
         var listItemDto = Mockito.mock(BookListItemDto.class);
@@ -79,11 +80,30 @@ class BookControllerTest {
                 .andExpect(model().attribute("books", hasSize(1)));
     }
 
+    @Test
+    void shouldReturnMostCommentedBooksFirstWhenSortedByPopularity() throws Exception {
+        var author = new Author("Author1");
+        var quiet = new Book(1L, "Quiet", author, Set.of(), 0L, 1, null);
+        var popular = new Book(2L, "Popular", author, Set.of(), 0L, 5, null);
+        Mockito.when(bookService.findAllMostCommentedFirst()).thenReturn(List.of(popular, quiet));
+
+        var popularDto = BookListItemDto.builder().id(2L).title("Popular").commentCount(5).build();
+        var quietDto = BookListItemDto.builder().id(1L).title("Quiet").commentCount(1).build();
+        Mockito.when(bookMapper.toListItemDto(popular)).thenReturn(popularDto);
+        Mockito.when(bookMapper.toListItemDto(quiet)).thenReturn(quietDto);
+
+        mockMvc.perform(get("/books").param("sort", "popular"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("book/list"))
+                .andExpect(model().attribute("books", contains(popularDto, quietDto)));
+        Mockito.verify(bookService, Mockito.never()).findAll();
+    }
+
     @Test
     void shouldReturnBookDetails() throws Exception {
         var author = new Author("Author1");
         var genre = new Genre("Drama");
-        var book = new Book(1L, "Book1", author, Set.of(genre), 0L);
+        var book = new Book(1L, "Book1", author, Set.of(genre), 0L, 0, null);
 
         Mockito.when(bookService.findById(1L)).thenReturn(book);
 
@@ -141,7 +161,7 @@ class BookControllerTest {
 
     @Test
     void shouldCreateBook() throws Exception {
-        Book saved = new Book(10L, "New Book", new Author("Author1"), Set.of(), 0);
+        Book saved = new Book(10L, "New Book", new Author("Author1"), Set.of(), 0, 0, null);
         Mockito.when(bookService.insert(eq("New Book"), eq(1L), any())).thenReturn(saved);
 
         mockMvc.perform(post("/books")
@@ -154,7 +174,7 @@ class BookControllerTest {
 
     @Test
     void shouldUpdateBook() throws Exception {
-        Book updated = new Book(10L, "Updated", new Author("Author1"), Set.of(), 0);
+        Book updated = new Book(10L, "Updated", new Author("Author1"), Set.of(), 0, 0, null);
         Mockito.when(bookService.update(eq(10L), eq("Updated"), eq(1L), any())).thenReturn(updated);
 
         mockMvc.perform(post("/books/10")
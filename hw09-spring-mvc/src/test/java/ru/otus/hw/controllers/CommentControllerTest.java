@@ -5,15 +5,18 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-import org.springframework.context.annotation.ComponentScan;
-import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
-import ru.otus.hw.components.GlobalExceptionHandler;
+import ru.otus.hw.components.ErrorCodeHttpStatusMapper;
+import ru.otus.hw.components.ErrorResponseNegotiator;
+import ru.otus.hw.components.ProblemDetailFactory;
+import ru.otus.hw.components.ValidationErrorExtractor;
 import ru.otus.hw.dto.AuthorDto;
 import ru.otus.hw.dto.BookDetailsDto;
 import ru.otus.hw.dto.CommentDto;
 import ru.otus.hw.dto.GenreDto;
+import ru.otus.hw.exceptions.NotFoundException;
 import ru.otus.hw.mappers.BookMapper;
 import ru.otus.hw.mappers.CommentMapper;
 import ru.otus.hw.models.Author;
@@ -26,18 +29,15 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(
-        controllers = CommentController.class,
-        excludeFilters = @ComponentScan.Filter(
-                type = FilterType.ASSIGNABLE_TYPE,
-                classes = GlobalExceptionHandler.class
-        )
-)
+@WebMvcTest(controllers = CommentController.class)
+@Import({ErrorCodeHttpStatusMapper.class, ErrorResponseNegotiator.class, ProblemDetailFactory.class,
+        ValidationErrorExtractor.class})
 @AutoConfigureMockMvc(addFilters = false)
 class CommentControllerTest {
 
@@ -76,7 +76,7 @@ class CommentControllerTest {
 
         var author = new Author("Author1");
         var genre = new Genre("Drama");
-        var book = new Book(bookId, "Book1", author, Set.of(genre), 0L);
+        var book = new Book(bookId, "Book1", author, Set.of(genre), 0L, 0, null);
 
         when(bookService.findById(bookId)).thenReturn(book);
 
@@ -117,4 +117,17 @@ class CommentControllerTest {
 
         Mockito.verify(commentService).deleteById(commentId);
     }
+
+    @Test
+    void shouldRespondNotFoundWhenDeletingMissingComment() throws Exception {
+        long bookId = 1L;
+        long commentId = 777L;
+        doThrow(new NotFoundException("Comment with id %d not found".formatted(commentId)))
+                .when(commentService).deleteById(commentId);
+
+        mockMvc.perform(post("/books/{bookId}/comments/{commentId}/delete", bookId, commentId))
+                .andExpect(status().isNotFound())
+                .andExpect(view().name("error/404"))
+                .andExpect(model().attribute("message", "Comment with id 777 not found"));
+    }
 }
@@ -6,6 +6,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.Builder;
 
+import java.time.Instant;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,4 +21,8 @@ public class BookListItemDto {
     private String authorFullName;
 
     private String genresSummary;
+
+    private long commentCount;
+
+    private Instant lastCommentedAt;
 }
@@ -25,6 +25,7 @@ import lombok.ToString;
 import org.hibernate.Hibernate;
 import org.hibernate.annotations.BatchSize;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -69,6 +70,12 @@ public class Book {
     @Column(name = "version", nullable = false)
     private long version;
 
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    private long commentCount;
+
+    @Column(name = "last_commented_at", insertable = false, updatable = false)
+    private Instant lastCommentedAt;
+
     public Book(String title, Author author, Set<Genre> genres) {
         this.title = title;
         this.author = author;
@@ -1,12 +1,15 @@
 package ru.otus.hw.repositories;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import ru.otus.hw.models.Book;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -34,4 +37,28 @@ public interface BookRepository extends JpaRepository<Book, Long> {
 
     @EntityGraph(attributePaths = {"author","genres"})
     List<Book> findByIdIn(Collection<Long> ids);
+
+    @Query("select b.id from Book b where b.id > :afterId order by b.id")
+    List<Long> findIdsAfter(long afterId, Limit limit);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Book b set b.commentCount = b.commentCount + 1, " +
+            "b.lastCommentedAt = case " +
+            "when b.lastCommentedAt is null or b.lastCommentedAt < :commentedAt " +
+            "then :commentedAt else b.lastCommentedAt end " +
+            "where b.id = :id")
+    void incrementCommentCount(long id, Instant commentedAt);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Book b set b.commentCount = b.commentCount - 1, " +
+            "b.lastCommentedAt = (select max(c.createdAt) from Comment c where c.book.id = b.id) " +
+            "where b.id = :id")
+    void decrementCommentCount(long id);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Book b set " +
+            "b.commentCount = (select count(c) from Comment c where c.book.id = b.id), " +
+            "b.lastCommentedAt = (select max(c.createdAt) from Comment c where c.book.id = b.id) " +
+            "where b.id in :ids")
+    int recomputeCommentStats(Collection<Long> ids);
 }
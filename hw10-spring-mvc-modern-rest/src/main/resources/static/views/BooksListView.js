@@ -5,15 +5,22 @@ export class BooksListView extends BaseView {
     async render() {
         const page = Number(new URLSearchParams(location.hash.split('?')[1] || '').get('page') || 0);
         const size = Number(new URLSearchParams(location.hash.split('?')[1] || '').get('size') || 20);
+        const popular = new URLSearchParams(location.hash.split('?')[1] || '').get('sort') === 'popular';
+        const sortParam = popular ? '&sort=popular' : '';
+        const apiSort = popular ? '&sort=commentCount,desc&sort=id' : '';
 
-        const pageData = await this.app.api.get(`/api/v1/books?page=${page}&size=${size}`);
+        const pageData = await this.app.api.get(`/api/v1/books?page=${page}&size=${size}${apiSort}`);
 
         const root = h('div', {},
             h('h1', {}, 'Список книг'),
             h('p', {}, h('a', { href: '#/books/new' }, 'Добавить книгу')),
+            h('p', {},
+                h('a', { href: `#/books?size=${size}` }, 'По порядку'), ' | ',
+                h('a', { href: `#/books?size=${size}&sort=popular` }, 'Самые обсуждаемые')
+            ),
             h('table', {},
                 h('thead', {}, h('tr', {},
-                    h('th', {}, 'ID'), h('th', {}, 'Название'), h('th', {}, 'Автор'), h('th', {}, 'Жанры'), h('th', {}, 'Действия')
+                    h('th', {}, 'ID'), h('th', {}, 'Название'), h('th', {}, 'Автор'), h('th', {}, 'Жанры'), h('th', {}, 'Комментарии'), h('th', {}, 'Действия')
                 )),
                 h('tbody', {},
                     pageData.content.map(b => h('tr', {},
@@ -21,6 +28,7 @@ export class BooksListView extends BaseView {
                         h('td', {}, h('a', { href: `#/books/${b.id}` }, b.title)),
                         h('td', {}, b.authorFullName ?? ''),
                         h('td', {}, b.genresSummary ?? ''),
+                        h('td', {}, String(b.commentCount ?? 0)),
                         h('td', {},
                             h('a', { href: `#/books/${b.id}/edit` }, 'Редактировать'), ' ',
                             h('button', {
@@ -38,8 +46,8 @@ export class BooksListView extends BaseView {
                 const p = h('p', { class: 'muted' },
                     `Всего: ${pageData.totalElements} • Стр. ${pageData.totalPages === 0 ? 0 : pageData.page + 1} из ${pageData.totalPages}`
                 );
-                if (!pageData.first) p.appendChild(h('a', { href: `#/books?page=${pageData.page - 1}&size=${size}`, style: 'margin-left:8px' }, '← Пред'));
-                if (!pageData.last)  p.appendChild(h('a', { href: `#/books?page=${pageData.page + 1}&size=${size}`, style: 'margin-left:8px' }, 'След →'));
+                if (!pageData.first) p.appendChild(h('a', { href: `#/books?page=${pageData.page - 1}&size=${size}${sortParam}`, style: 'margin-left:8px' }, '← Пред'));
+                if (!pageData.last)  p.appendChild(h('a', { href: `#/books?page=${pageData.page + 1}&size=${size}${sortParam}`, style: 'margin-left:8px' }, 'След →'));
                 return p;
             })()
         );
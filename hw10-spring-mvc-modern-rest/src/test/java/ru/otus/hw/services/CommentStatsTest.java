@@ -0,0 +1,109 @@
+package ru.otus.hw.services;
+
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import ru.otus.hw.exceptions.NotFoundException;
+import ru.otus.hw.models.Book;
+import ru.otus.hw.repositories.BookRepository;
+
+import java.time.Instant;
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({BookServiceImpl.class, CommentServiceImpl.class, CommentStatsRepairServiceImpl.class})
+class CommentStatsTest {
+
+    @Autowired
+    TestEntityManager tem;
+
+    @Autowired
+    BookService bookService;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    CommentStatsRepairService commentStatsRepairService;
+
+    @Autowired
+    BookRepository bookRepository;
+
+    @Test
+    void insertAndDeleteById_keepCounterAndLastCommentedAtInSync() {
+        long before = storedStats(1L).count();
+
+        commentService.insert(1L, "first");
+        var second = commentService.insert(1L, "second");
+
+        assertThat(storedStats(1L)).isEqualTo(actualStats(1L));
+        assertThat(storedStats(1L).count()).isEqualTo(before + 2);
+
+        commentService.deleteById(second.getId());
+
+        assertThat(storedStats(1L)).isEqualTo(actualStats(1L));
+        assertThat(bookService.findById(1L).getCommentCount()).isEqualTo(before + 1);
+
+        commentService.findByBookId(1L).forEach(comment -> commentService.deleteById(comment.getId()));
+
+        assertThat(storedStats(1L)).isEqualTo(new Stats(0, null));
+    }
+
+    @Test
+    void deleteById_missingComment_throwsNotFoundAndLeavesCountersAlone() {
+        var before = storedStats(1L);
+
+        assertThatThrownBy(() -> commentService.deleteById(777L))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage("Comment with id 777 not found");
+        assertThat(storedStats(1L)).isEqualTo(before);
+    }
+
+    @Test
+    void repairAll_fixesDriftAndPagesSortedByCounterFollowRepairedCounters() {
+        commentService.insert(3L, "popular");
+        long books = bookRepository.count();
+        tem.getEntityManager().createNativeQuery("update books set comment_count = 42, last_commented_at = null")
+                .executeUpdate();
+
+        int repaired = commentStatsRepairService.repairAll();
+
+        assertThat(repaired).isEqualTo(books);
+        var mostCommented = bookService.findAll(PageRequest.of(0, (int) books,
+                Sort.by(Sort.Order.desc("commentCount"), Sort.Order.asc("id")))).getContent();
+        assertThat(mostCommented).hasSize((int) books)
+                .extracting(Book::getCommentCount)
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(mostCommented).allSatisfy(book ->
+                assertThat(storedStats(book.getId())).isEqualTo(actualStats(book.getId())));
+    }
+
+    private Stats storedStats(long bookId) {
+        return toStats(tem.getEntityManager()
+                .createQuery("select b.commentCount, b.lastCommentedAt from Book b where b.id = :id", Tuple.class)
+                .setParameter("id", bookId)
+                .getSingleResult());
+    }
+
+    private Stats actualStats(long bookId) {
+        return toStats(tem.getEntityManager()
+                .createQuery("select count(c), max(c.createdAt) from Comment c where c.book.id = :id", Tuple.class)
+                .setParameter("id", bookId)
+                .getSingleResult());
+    }
+
+    private static Stats toStats(Tuple tuple) {
+        return new Stats(tuple.get(0, Long.class), tuple.get(1, Instant.class));
+    }
+
+    private record Stats(long count, Instant lastCommentedAt) {
+    }
+}